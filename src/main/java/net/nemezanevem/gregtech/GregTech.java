@@ -46,6 +46,7 @@ import net.nemezanevem.gregtech.common.network.packets.PacketBlockParticle;
 import net.nemezanevem.gregtech.common.network.packets.PacketRecoverMTE;
 import net.nemezanevem.gregtech.common.network.packets.PacketUIOpen;
 import net.nemezanevem.gregtech.common.network.packets.PacketUIWidgetUpdate;
+import net.nemezanevem.gregtech.common.network.packets.PacketUIWidgetUpdateBatch;
 import org.slf4j.Logger;
 
 // The value here should match an entry in the META-INF/mods.toml file
@@ -133,6 +134,7 @@ public class GregTech {
         NETWORK_HANDLER.registerMessage(packetIndex++, PacketUIOpen.class, PacketUIOpen::encode, PacketUIOpen::decode, PacketUIOpen::handle);
         NETWORK_HANDLER.registerMessage(packetIndex++, PacketBlockParticle.class, PacketBlockParticle::encode, PacketBlockParticle::decode, PacketBlockParticle::handle);
         NETWORK_HANDLER.registerMessage(packetIndex++, PacketRecoverMTE.class, PacketRecoverMTE::encode, PacketRecoverMTE::decode, PacketRecoverMTE::handle);
+        NETWORK_HANDLER.registerMessage(packetIndex++, PacketUIWidgetUpdateBatch.class, PacketUIWidgetUpdateBatch::encode, PacketUIWidgetUpdateBatch::decode, PacketUIWidgetUpdateBatch::handle);
     }
 
 
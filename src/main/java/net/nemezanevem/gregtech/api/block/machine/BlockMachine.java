@@ -27,8 +27,11 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
+import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BooleanProperty;
 import net.minecraft.world.level.block.state.properties.EnumProperty;
 import net.minecraft.world.level.block.state.properties.IntegerProperty;
@@ -48,6 +51,7 @@ import net.nemezanevem.gregtech.api.item.toolitem.ToolClass;
 import net.nemezanevem.gregtech.api.pipenet.IBlockAppearance;
 import net.nemezanevem.gregtech.api.registry.tileentity.MetaTileEntityRegistry;
 import net.nemezanevem.gregtech.api.util.Util;
+import net.nemezanevem.gregtech.common.block.MetaBlocks;
 import net.nemezanevem.gregtech.common.item.metaitem.MetaItems;
 import net.nemezanevem.gregtech.integration.IFacadeWrapper;
 import org.jetbrains.annotations.NotNull;
@@ -63,6 +67,8 @@ public class BlockMachine extends BlockCustomParticle implements EntityBlock, IF
     private static final List<IndexedVoxelShape> EMPTY_COLLISION_BOX = Collections.emptyList();
     //used for rendering purposes of non-opaque machines like chests and tanks
     public static final BooleanProperty OPAQUE = BooleanProperty.create("opaque");
+    //machines which do nothing on tick are left out of the ticking block entities of their chunk
+    public static final BooleanProperty TICKING = BooleanProperty.create("ticking");
 
     // Vanilla MC's getHarvestTool() and getHarvestLevel() only pass the state, which is
     // not enough information to get the harvest tool and level from a MetaTileEntity on its own.
@@ -73,7 +79,22 @@ public class BlockMachine extends BlockCustomParticle implements EntityBlock, IF
 
     public BlockMachine() {
         super(BlockBehaviour.Properties.of(Material.METAL).strength(6.0f, 6.0f).sound(SoundType.METAL).isSuffocating(((pState, pLevel, pPos) -> pState.getValue(OPAQUE))).isValidSpawn(((pState, pLevel, pPos, pValue) -> false)));
-        registerDefaultState(stateDefinition.any().setValue(OPAQUE, true).setValue(HARVEST_LEVEL, 0).setValue(HARVEST_TOOL, ToolClass.WRENCH));
+        registerDefaultState(stateDefinition.any().setValue(OPAQUE, true).setValue(TICKING, true).setValue(HARVEST_LEVEL, 0).setValue(HARVEST_TOOL, ToolClass.WRENCH));
+    }
+
+    @Override
+    protected void createBlockStateDefinition(@Nonnull StateDefinition.Builder<Block, BlockState> builder) {
+        builder.add(OPAQUE, TICKING, HARVEST_TOOL, HARVEST_LEVEL);
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(@Nonnull Level level, @Nonnull BlockState state, @Nonnull BlockEntityType<T> type) {
+        if (!state.getValue(TICKING) || type != MetaBlocks.MACHINE_BE.get()) {
+            return null;
+        }
+        return (BlockEntityTicker<T>) (BlockEntityTicker<MetaTileEntityHolder>) (pLevel, pPos, pState, pBlockEntity) -> pBlockEntity.tick(pLevel, pPos, pState, pBlockEntity);
     }
 
     @Nullable
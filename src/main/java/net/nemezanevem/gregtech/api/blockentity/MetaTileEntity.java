@@ -53,6 +53,7 @@ import net.nemezanevem.gregtech.GregTech;
 import net.nemezanevem.gregtech.api.GTValues;
 import net.nemezanevem.gregtech.api.block.machine.BlockMachine;
 import net.nemezanevem.gregtech.api.blockentity.interfaces.IGregTechTileEntity;
+import net.nemezanevem.gregtech.api.capability.GregtechCapabilities;
 import net.nemezanevem.gregtech.api.capability.GregtechTileCapabilities;
 import net.nemezanevem.gregtech.api.capability.IControllable;
 import net.nemezanevem.gregtech.api.capability.IEnergyContainer;
@@ -74,7 +75,9 @@ import org.apache.commons.lang3.tuple.Pair;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -105,6 +108,17 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
 
     protected final List<MTETrait> mteTraits = new ArrayList<>();
 
+    /**
+     * Capabilities provided by the inventories and traits, filled on lookup and cleared when they change.
+     * Absent capabilities are stored as {@link #NO_CAPABILITY}
+     */
+    private final Map<Capability<?>, LazyOptional<?>> capabilityTable = new IdentityHashMap<>();
+    /**
+     * Capabilities returned by the covers by side, valid as long as the cover and the capability it was given stay the same
+     */
+    @SuppressWarnings("unchecked")
+    private final Map<Capability<?>, CoverCapability>[] coverCapabilityTables = new Map[6];
+
     protected Direction frontFacing = Direction.NORTH;
     private int paintingColor = -1;
 
@@ -131,6 +145,7 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     }
 
     protected void initializeInventory() {
+        invalidateCapabilities();
         this.importItems = createImportItemHandler();
         this.exportItems = createExportItemHandler();
         this.itemInventory = new ItemHandlerProxy(importItems, exportItems);
@@ -157,6 +172,43 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     public void markDirty() {
         if (holder != null) {
             holder.markAsDirty();
+            // values normally refreshed on tick are refreshed on change for meta tile entities which are not ticked
+            if (!holder.supportsTicking() && getLevel() != null && !getLevel().isClientSide) {
+                updateComparatorValue();
+                updateLightValue();
+            }
+        }
+    }
+
+    /**
+     * Override to return false if this meta tile entity does nothing on tick,
+     * so its holder is left out of ticking while no trait or cover requires it.
+     * Call {@link #updateSupportsTicking()} whenever the result changes.
+     *
+     * @return true if this meta tile entity does something on tick
+     */
+    protected boolean requiresOwnTicking() {
+        return true;
+    }
+
+    /**
+     * @return true if this meta tile entity, one of its traits or one of its covers needs to be ticked
+     */
+    public final boolean requiresTicking() {
+        if (requiresOwnTicking() || !mteTraits.isEmpty()) {
+            return true;
+        }
+        for (CoverBehavior coverBehavior : coverBehaviors) {
+            if (coverBehavior != null && coverBehavior.isTickable()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void updateSupportsTicking() {
+        if (holder != null) {
+            holder.updateSupportsTicking();
         }
     }
 
@@ -352,6 +404,7 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
             return false;
         });
         this.mteTraits.add(trait);
+        invalidateCapabilities();
     }
 
     protected IItemHandlerModifiable createImportItemHandler() {
@@ -556,6 +609,7 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
         });
         notifyBlockUpdate();
         markDirty();
+        updateSupportsTicking();
         onCoverPlacementUpdate();
         AdvancementTriggers.FIRST_COVER_PLACE.trigger((ServerPlayer) player);
         return true;
@@ -576,6 +630,7 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
         writeCustomData(COVER_REMOVED_MTE, buffer -> buffer.writeByte(side.ordinal()));
         notifyBlockUpdate();
         markDirty();
+        updateSupportsTicking();
         onCoverPlacementUpdate();
         return true;
     }
@@ -942,12 +997,23 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public final <T> LazyOptional<T> getCoverCapability(Capability<T> capability, Direction side) {
         boolean isCoverable = capability == GregtechTileCapabilities.CAPABILITY_COVERABLE;
         CoverBehavior coverBehavior = side == null ? null : getCoverAtSide(side);
         LazyOptional<T> originalCapability = getCapability(capability, side);
         if (coverBehavior != null && !isCoverable) {
-            return coverBehavior.getCapability(capability, originalCapability);
+            Map<Capability<?>, CoverCapability> coverCapabilities = coverCapabilityTables[side.ordinal()];
+            if (coverCapabilities == null) {
+                coverCapabilities = new IdentityHashMap<>();
+                coverCapabilityTables[side.ordinal()] = coverCapabilities;
+            }
+            CoverCapability cached = coverCapabilities.get(capability);
+            if (cached == null || cached.cover != coverBehavior || cached.original != originalCapability) {
+                cached = new CoverCapability(coverBehavior, originalCapability, coverBehavior.getCapability(capability, originalCapability));
+                coverCapabilities.put(capability, cached);
+            }
+            return (LazyOptional<T>) cached.result;
         }
         return originalCapability;
     }
@@ -955,8 +1021,49 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     LazyOptional<ICoverable> coverableLazy = LazyOptional.of(() -> this);
 
     public <T> LazyOptional<T> getCapability(Capability<T> capability, Direction side) {
+        LazyOptional<T> capabilityResult = lookupCapability(capability);
+        if (side != null && capabilityResult != null && capability == GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER) {
+            // energy sides depend on the machine state, so they are checked on every query
+            IEnergyContainer energyContainer = (IEnergyContainer) capabilityResult.orElse(null);
+            if (energyContainer != null && !energyContainer.inputsEnergy(side) && !energyContainer.outputsEnergy(side)) {
+                return null; //do not provide energy container if it can't input or output energy at all
+            }
+        }
+        return capabilityResult;
+    }
+
+    /**
+     * Drops the looked up capabilities of the inventories and traits.
+     * Call this whenever the item or fluid inventory is replaced after {@link #initializeInventory()}
+     */
+    protected void invalidateCapabilities() {
+        capabilityTable.clear();
+        if (itemHandlerLazy != null) {
+            itemHandlerLazy.invalidate();
+            fluidHandlerLazy.invalidate();
+        }
+        itemHandlerLazy = LazyOptional.of(this::getItemInventory);
+        fluidHandlerLazy = LazyOptional.of(this::getFluidInventory);
+    }
+
+    /**
+     * @return the capability provided by the inventories or traits of this meta tile entity, or null if there is none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private <T> LazyOptional<T> lookupCapability(Capability<T> capability) {
+        LazyOptional<?> result = capabilityTable.get(capability);
+        if (result == null) {
+            result = createCapability(capability);
+            capabilityTable.put(capability, result == null ? NO_CAPABILITY : result);
+        }
+        return result == NO_CAPABILITY ? null : (LazyOptional<T>) result;
+    }
+
+    @Nullable
+    private <T> LazyOptional<T> createCapability(Capability<T> capability) {
         if (capability == GregtechTileCapabilities.CAPABILITY_COVERABLE) {
-            coverableLazy.cast();
+            return coverableLazy.cast();
         }
         if (capability == ForgeCapabilities.FLUID_HANDLER &&
                 getFluidInventory().getTanks() > 0) {
@@ -965,20 +1072,27 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
                 getItemInventory().getSlots() > 0) {
             return itemHandlerLazy.cast();
         }
-        LazyOptional<T> capabilityResult = null;
         for (MTETrait mteTrait : this.mteTraits) {
-            capabilityResult = mteTrait.getCapability(capability);
+            LazyOptional<T> capabilityResult = mteTrait.getCapability(capability);
             if (capabilityResult != null) {
-                break;
+                return capabilityResult;
             }
         }
-        if (side != null && capabilityResult instanceof IEnergyContainer) {
-            IEnergyContainer energyContainer = (IEnergyContainer) capabilityResult;
-            if (!energyContainer.inputsEnergy(side) && !energyContainer.outputsEnergy(side)) {
-                return null; //do not provide energy container if it can't input or output energy at all
-            }
+        return null;
+    }
+
+    private static final LazyOptional<?> NO_CAPABILITY = LazyOptional.of(() -> null);
+
+    private static class CoverCapability {
+        private final CoverBehavior cover;
+        private final LazyOptional<?> original;
+        private final LazyOptional<?> result;
+
+        private CoverCapability(CoverBehavior cover, LazyOptional<?> original, LazyOptional<?> result) {
+            this.cover = cover;
+            this.original = original;
+            this.result = result;
         }
-        return capabilityResult;
     }
 
     public void fillInternalTankFromFluidContainer() {
@@ -1288,13 +1402,13 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     }
 
 
-    private LazyOptional<IItemHandler> itemHandlerLazy = LazyOptional.of(this::getItemInventory);
+    private LazyOptional<IItemHandler> itemHandlerLazy;
 
     public IItemHandler getItemInventory() {
         return itemInventory;
     }
 
-    private LazyOptional<IFluidHandler> fluidHandlerLazy = LazyOptional.of(this::getFluidInventory);
+    private LazyOptional<IFluidHandler> fluidHandlerLazy;
 
     public IFluidHandler getFluidInventory() {
         return fluidInventory;
@@ -1384,12 +1498,9 @@ public abstract class MetaTileEntity implements ICoverable, IVoidable {
     }
 
     public GTRecipeType<?> getRecipeType() {
-        for (MTETrait mteTrait : mteTraits) {
-            if (mteTrait.getName().equals("RecipeTypeWorkable")) {
-                return ((AbstractRecipeLogic) mteTrait).getRecipeType();
-            }
-        }
-        return null;
+        LazyOptional<AbstractRecipeLogic> recipeLogic = lookupCapability(GregtechTileCapabilities.CAPABILITY_RECIPE_LOGIC);
+        AbstractRecipeLogic logic = recipeLogic == null ? null : recipeLogic.orElse(null);
+        return logic == null ? null : logic.getRecipeType();
     }
 
     public void checkWeatherOrTerrainExplosion(float explosionPower, double additionalFireChance, IEnergyContainer energyContainer) {
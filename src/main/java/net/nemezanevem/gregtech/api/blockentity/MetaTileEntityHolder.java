@@ -25,6 +25,7 @@ import net.nemezanevem.gregtech.GregTech;
 import net.nemezanevem.gregtech.api.block.machine.BlockMachine;
 import net.nemezanevem.gregtech.api.cover.CoverBehavior;
 import net.nemezanevem.gregtech.api.gui.IUIHolder;
+import net.nemezanevem.gregtech.api.pipenet.EndpointCapabilityCache;
 import net.nemezanevem.gregtech.api.registry.tileentity.MetaTileEntityRegistry;
 import net.nemezanevem.gregtech.api.blockentity.interfaces.IGregTechTileEntity;
 import net.nemezanevem.gregtech.api.util.Util;
@@ -74,12 +75,13 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
         this.metaTileEntity.onPlacement();
         if (hasLevel() && !level.isClientSide) {
             updateBlockOpacity();
+            updateSupportsTicking();
             writeCustomData(INITIALIZE_MTE, buffer -> {
                 buffer.writeRegistryId(MetaTileEntityRegistry.META_TILE_ENTITIES_BUILTIN.get(), getMetaTileEntity());
                 getMetaTileEntity().writeInitialSyncData(buffer);
             });
             //just to update neighbours so cables and other things will work properly
-            this.needToUpdateLightning = true;
+            scheduleLightningUpdate();
             level.neighborChanged(getBlockPos(), getBlockState().getBlock(), getBlockPos());
             setChanged();
         }
@@ -99,8 +101,53 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
         }
     }
 
+    /**
+     * Updates the lightning on the next tick, or right away if this holder is not ticked
+     */
+    private void scheduleLightningUpdate() {
+        if (supportsTicking()) {
+            this.needToUpdateLightning = true;
+        } else {
+            level.getLightEngine().getRawBrightness(worldPosition, 0);
+        }
+    }
+
+    /**
+     * Recovers the meta tile entity from the server on the client, or removes the block on the server
+     *
+     * @return true if this holder has no meta tile entity
+     */
+    private boolean handleMissingMetaTileEntity() {
+        if (metaTileEntity != null) return false;
+        if (level.isClientSide) { // recover the mte
+            GregTech.NETWORK_HANDLER.sendToServer(new PacketRecoverMTE(level.dimension(), worldPosition));
+        } else { // remove the block
+            if (level.getBlockState(worldPosition).getBlock() instanceof BlockMachine) {
+                level.setBlock(worldPosition, Blocks.AIR.defaultBlockState(), 3);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean supportsTicking() {
+        return getBlockState().getValue(BlockMachine.TICKING);
+    }
+
+    @Override
+    public void updateSupportsTicking() {
+        if (level == null || level.isClientSide || metaTileEntity == null) return;
+        BlockState currentState = level.getBlockState(getBlockPos());
+        boolean requiresTicking = metaTileEntity.requiresTicking();
+        if (currentState.getValue(BlockMachine.TICKING) != requiresTicking) {
+            //changing the state rebinds the block entity ticker of the chunk
+            level.setBlock(getBlockPos(), currentState.setValue(BlockMachine.TICKING, requiresTicking), 3);
+        }
+    }
+
     @Override
     public void notifyBlockUpdate() {
+        EndpointCapabilityCache.invalidate(getLevel(), worldPosition);
         getLevel().neighborChanged(getBlockState(), worldPosition, getBlockState().getBlock(), worldPosition, false);
     }
 
@@ -169,14 +216,8 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
     @Override
     public void tick() {
         long tickTime = System.nanoTime();
-        if (metaTileEntity != null) {
+        if (!handleMissingMetaTileEntity()) {
             metaTileEntity.tick();
-        } else if (level.isClientSide) { // recover the mte
-            GregTech.NETWORK_HANDLER.sendToServer(new PacketRecoverMTE(level.dimension(), worldPosition));
-        } else { // remove the block
-            if (level.getBlockState(worldPosition).getBlock() instanceof BlockMachine) {
-                level.setBlock(worldPosition, Blocks.AIR.defaultBlockState(), 3);
-            }
         }
 
         if (this.needToUpdateLightning) {
@@ -285,7 +326,7 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
         this.metaTileEntity.onPlacement();
         this.metaTileEntity.receiveInitialSyncData(buf);
         scheduleRenderUpdate();
-        this.needToUpdateLightning = true;
+        scheduleLightningUpdate();
     }
 
     @Override
@@ -318,6 +359,9 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
         super.onLoad();
         if (metaTileEntity != null) {
             metaTileEntity.onLoad();
+        } else if (!supportsTicking()) {
+            // holders without a meta tile entity are normally handled in tick(), which this one does not get
+            handleMissingMetaTileEntity();
         }
     }
 
@@ -20,6 +20,16 @@ public interface IGregTechTileEntity extends IHasWorldObjectAndCoords, IUIHolder
 
     void writeCustomData(int discriminator, Consumer<FriendlyByteBuf> dataWriter);
 
+    /**
+     * @return true if this tile entity is currently ticked
+     */
+    boolean supportsTicking();
+
+    /**
+     * Starts or stops ticking this tile entity depending on whether its meta tile entity needs ticking
+     */
+    void updateSupportsTicking();
+
     long getOffsetTimer(); // todo might not keep this one
 
     @Deprecated
@@ -1,29 +1,29 @@
 package net.nemezanevem.gregtech.api.capability.impl;
 
 import gregtech.api.recipes.ModHandler;
-import gregtech.api.recipes.RecipeTypes;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.material.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidUtil;
 import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import net.nemezanevem.gregtech.GregTech;
-import net.nemezanevem.gregtech.api.GTValues;
 import net.nemezanevem.gregtech.api.capability.GregtechDataCodes;
 import net.nemezanevem.gregtech.api.capability.IMultiblockController;
 import net.nemezanevem.gregtech.api.capability.IMultipleTankHandler;
+import net.nemezanevem.gregtech.api.recipe.FuelIndex;
 import net.nemezanevem.gregtech.api.recipe.GTRecipe;
 import net.nemezanevem.gregtech.api.recipe.GtRecipeTypes;
 import net.nemezanevem.gregtech.common.ConfigHolder;
 import net.nemezanevem.gregtech.common.tileentity.multi.MetaTileEntityLargeBoiler;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Collections;
-import java.util.List;
 
 public class BoilerRecipeLogic extends AbstractRecipeLogic {
 
@@ -36,6 +36,11 @@ public class BoilerRecipeLogic extends AbstractRecipeLogic {
     private int lastTickSteamOutput;
     private int excessWater, excessFuel, excessProjectedEU;
 
+    // fuel burnt last time, reused while the tanks hold the same fluid and the recipes were not reloaded
+    private FuelIndex lastFuelIndex;
+    private Fluid lastFuel;
+    private GTRecipe lastFuelRecipe;
+
     public BoilerRecipeLogic(MetaTileEntityLargeBoiler tileEntity) {
         super(tileEntity, null);
         this.fluidOutputs = Collections.emptyList();
@@ -66,15 +71,15 @@ public class BoilerRecipeLogic extends AbstractRecipeLogic {
         // can optimize with an override of checkPreviousRecipe() and a check here
 
         IMultipleTankHandler importFluids = boiler.getImportFluids();
-        List<ItemStack> dummyList = NonNullList.create();
         boolean didStartRecipe = false;
+        FuelIndex dieselFuels = FuelIndex.get(GtRecipeTypes.COMBUSTION_GENERATOR_FUELS.get());
+        FuelIndex denseFuels = FuelIndex.get(GtRecipeTypes.SEMI_FLUID_GENERATOR_FUELS.get());
 
         for (IFluidTank fluidTank : importFluids.getFluidTanks()) {
             FluidStack fuelStack = fluidTank.drain(Integer.MAX_VALUE, false);
             if (fuelStack == null || ModHandler.isWater(fuelStack)) continue;
 
-            GTRecipe dieselRecipe = GtRecipeTypes.GTRecipeTypes.COMBUSTION_GENERATOR_FUELS.findRecipe(
-                    GTValues.V[GTValues.MAX], dummyList, Collections.singletonList(fuelStack), Integer.MAX_VALUE);
+            GTRecipe dieselRecipe = findFuelRecipe(dieselFuels, fuelStack);
             // run only if it can apply a certain amount of "parallel", this is to mitigate int division
             if (dieselRecipe != null && fuelStack.getAmount() >= dieselRecipe.getFluidInputs().get(0).getAmount() * FLUID_DRAIN_MULTIPLIER) {
                 fluidTank.drain(dieselRecipe.getFluidInputs().get(0).getAmount() * FLUID_DRAIN_MULTIPLIER, IFluidHandler.FluidAction.SIMULATE);
@@ -84,8 +89,7 @@ public class BoilerRecipeLogic extends AbstractRecipeLogic {
                 break;
             }
 
-            GTRecipe denseFuelRecipe = RecipeTypes.SEMI_FLUID_GENERATOR_FUELS.findRecipe(
-                    GTValues.V[GTValues.MAX], dummyList, Collections.singletonList(fuelStack), Integer.MAX_VALUE);
+            GTRecipe denseFuelRecipe = findFuelRecipe(denseFuels, fuelStack);
             // run only if it can apply a certain amount of "parallel", this is to mitigate int division
             if (denseFuelRecipe != null && fuelStack.getAmount() >= denseFuelRecipe.getFluidInputs().get(0).getAmount() * FLUID_DRAIN_MULTIPLIER) {
                 fluidTank.drain(denseFuelRecipe.getFluidInputs().get(0).getAmount() * FLUID_DRAIN_MULTIPLIER, IFluidHandler.FluidAction.SIMULATE);
@@ -126,6 +130,20 @@ public class BoilerRecipeLogic extends AbstractRecipeLogic {
         metaTileEntity.getNotifiedFluidInputList().clear();
     }
 
+    @Nullable
+    private GTRecipe findFuelRecipe(FuelIndex fuelIndex, FluidStack fuelStack) {
+        if (fuelIndex == lastFuelIndex && fuelStack.getFluid() == lastFuel) {
+            return lastFuelRecipe;
+        }
+        GTRecipe recipe = fuelIndex.getFuelRecipe(fuelStack);
+        if (recipe != null) {
+            this.lastFuelIndex = fuelIndex;
+            this.lastFuel = fuelStack.getFluid();
+            this.lastFuelRecipe = recipe;
+        }
+        return recipe;
+    }
+
     @Override
     protected void updateRecipeProgress() {
         if (canRecipeProgress) {
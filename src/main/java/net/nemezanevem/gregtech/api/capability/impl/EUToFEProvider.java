@@ -24,6 +24,13 @@ public class EUToFEProvider extends CapabilityCompatProvider {
      */
     private long feBuffer;
 
+    /**
+     * Wrappers handed out per side, the last slot is used for the null side.
+     * A wrapper is invalidated together with the FE capability it wraps.
+     */
+    @SuppressWarnings("unchecked")
+    private final LazyOptional<IEnergyContainer>[] wrappers = new LazyOptional[Direction.values().length + 1];
+
     public EUToFEProvider(BlockEntity tileEntity) {
         super(tileEntity);
     }
@@ -40,10 +47,25 @@ public class EUToFEProvider extends CapabilityCompatProvider {
         if (!ConfigHolder.compat.energy.nativeEUToFE || capability != GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER)
             return LazyOptional.empty();
 
+        int index = facing == null ? wrappers.length - 1 : facing.ordinal();
+        LazyOptional<IEnergyContainer> wrapper = wrappers[index];
+        if (wrapper != null && wrapper.isPresent()) {
+            return wrapper.cast();
+        }
+
         LazyOptional<IEnergyStorage> energyStorage = getUpvalueCapability(ForgeCapabilities.ENERGY, facing);
-        return energyStorage != null ?
-                LazyOptional.of(() -> new GTEnergyWrapper(energyStorage.resolve().get())).cast() :
-                LazyOptional.empty();
+        if (energyStorage == null || !energyStorage.isPresent())
+            return LazyOptional.empty();
+
+        LazyOptional<IEnergyContainer> newWrapper = LazyOptional.of(() -> new GTEnergyWrapper(energyStorage.resolve().get()));
+        energyStorage.addListener(invalidated -> {
+            if (wrappers[index] == newWrapper) {
+                wrappers[index] = null;
+            }
+            newWrapper.invalidate();
+        });
+        wrappers[index] = newWrapper;
+        return newWrapper.cast();
     }
 
     public class GTEnergyWrapper implements IEnergyContainer {
@@ -108,12 +130,14 @@ public class EUToFEProvider extends CapabilityCompatProvider {
 
                 // Able to consume buffered amount plus an even amount of packets (no buffer needed)
                 if (newPower % maxPacket == 0) {
-                    return energyStorage.receiveEnergy(consumable, false) / maxPacket;
+                    energyStorage.receiveEnergy(consumable, false);
+                    return newPower / maxPacket;
                 }
 
                 // Able to consume buffered amount plus some amount of power with a packet remainder
                 int ampsToConsume = safeCastLongToInt((newPower / maxPacket) + 1);
-                feBuffer = safeCastLongToInt((maxPacket * ampsToConsume) - consumable);
+                // the buffered amount was handed over already, only the new power is drawn from the packets
+                feBuffer = safeCastLongToInt((maxPacket * ampsToConsume) - newPower);
                 energyStorage.receiveEnergy(consumable, false);
                 return ampsToConsume;
 
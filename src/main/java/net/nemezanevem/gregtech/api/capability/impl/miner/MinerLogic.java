@@ -167,13 +167,13 @@ public class MinerLogic {
             BlockState blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
 
             // check to make sure the ore is still there,
-            while(!Util.isOre(new ItemStack(blockState.getBlock()))) {
+            while(!Util.isOre(blockState)) {
                 blocksToMine.removeFirst();
                 if (blocksToMine.isEmpty()) break;
                 blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
             }
             // When we are here we have an ore to mine! I'm glad we aren't threaded
-            if (!blocksToMine.isEmpty() & Util.isOre(new ItemStack(blockState.getBlock()))) {
+            if (!blocksToMine.isEmpty() & Util.isOre(blockState)) {
                 // get the small ore drops, if a small ore
                 getSmallOreBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
                 // get the block's drops.
@@ -361,7 +361,7 @@ public class MinerLogic {
                     if (x.get() <= startX.get() + currentRadius * 2) {
                         BlockPos blockPos = new BlockPos(x.get(), y.get(), z.get());
                         BlockState state = metaTileEntity.getWorld().getBlockState(blockPos);
-                        if (state.getBlock().defaultDestroyTime() >= 0 && metaTileEntity.getWorld().getBlockEntity(blockPos) == null && Util.isOre(new ItemStack(state.getBlock()))) {
+                        if (state.getBlock().defaultDestroyTime() >= 0 && metaTileEntity.getWorld().getBlockEntity(blockPos) == null && Util.isOre(state)) {
                             blocks.addLast(blockPos);
                         }
                         // move to the next x position
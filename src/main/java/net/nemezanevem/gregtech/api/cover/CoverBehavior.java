@@ -181,6 +181,9 @@ public abstract class CoverBehavior implements IUIHolder {
     /**
      * Will be called for each capability request to meta tile entity
      * Cover can override meta tile entity capabilities, modify their values, or deny accessing them
+     * <p>
+     * The result is cached by the meta tile entity until this cover or the default value change,
+     * so it must only depend on them. Wrappers that need the cover state should read it when they are used
      *
      * @param defaultValue value of the capability from meta tile entity itself
      * @return result capability value external caller will receive
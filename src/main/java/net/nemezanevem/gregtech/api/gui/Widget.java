@@ -177,6 +177,12 @@ public abstract class Widget {
     public void updateScreenOnFrame() {
     }
 
+    /**
+     * Called clientside when the screen showing this modular UI is closed
+     */
+    public void onScreenClosed() {
+    }
+
     /**
      * Called each draw tick to draw this widget in GUI
      */
@@ -25,6 +25,7 @@ import net.nemezanevem.gregtech.api.util.PerTickIntCounter;
 import net.nemezanevem.gregtech.api.util.Util;
 import net.nemezanevem.gregtech.common.network.packets.PacketUIClientAction;
 import net.nemezanevem.gregtech.common.network.packets.PacketUIWidgetUpdate;
+import net.nemezanevem.gregtech.common.network.packets.PacketUIWidgetUpdateBatch;
 
 import javax.annotation.Nonnull;
 import java.util.*;
@@ -39,6 +40,13 @@ public class ModularUIContainer extends AbstractContainerMenu implements WidgetU
     public boolean accumulateWidgetUpdateData = false;
     public final List<PacketUIWidgetUpdate> accumulatedUpdates = new ArrayList<>();
 
+    /**
+     * Updates written while {@link #broadcastChanges()} polls the widgets, sent as one packet at the end of the tick
+     */
+    private boolean batchingUpdates = false;
+    private FriendlyByteBuf batchedUpdates;
+    private final FriendlyByteBuf updateScratchBuffer = new FriendlyByteBuf(Unpooled.buffer());
+
     public ModularUIContainer(int containerId, ModularUI modularUI) {
         super(GtVanillaMenuTypes.GT_MENU.get(), containerId);
         this.modularUI = modularUI;
@@ -140,7 +148,17 @@ public class ModularUIContainer extends AbstractContainerMenu implements WidgetU
     public void broadcastChanges() {
         super.broadcastChanges();
         if (containerListeners.size() > 0) {
-            modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+            this.batchingUpdates = !accumulateWidgetUpdateData && modularUI.player instanceof ServerPlayer;
+            try {
+                modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+            } finally {
+                this.batchingUpdates = false;
+            }
+            if (batchedUpdates != null) {
+                PacketUIWidgetUpdateBatch batch = new PacketUIWidgetUpdateBatch(containerId, batchedUpdates);
+                this.batchedUpdates = null;
+                GregTech.NETWORK_HANDLER.sendTo(batch, ((ServerPlayer) modularUI.player).connection.getConnection(), NetworkDirection.PLAY_TO_CLIENT);
+            }
         }
     }
 
@@ -259,6 +277,18 @@ public class ModularUIContainer extends AbstractContainerMenu implements WidgetU
     @Override
     public void writeUpdateInfo(Widget widget, int updateId, Consumer<FriendlyByteBuf> payloadWriter) {
         int widgetId = modularUI.guiWidgets.inverse().get(widget);
+        if (batchingUpdates) {
+            updateScratchBuffer.clear();
+            updateScratchBuffer.writeVarInt(updateId);
+            payloadWriter.accept(updateScratchBuffer);
+            if (batchedUpdates == null) {
+                this.batchedUpdates = new FriendlyByteBuf(Unpooled.buffer());
+            }
+            batchedUpdates.writeVarInt(widgetId);
+            batchedUpdates.writeVarInt(updateScratchBuffer.readableBytes());
+            batchedUpdates.writeBytes(updateScratchBuffer);
+            return;
+        }
         FriendlyByteBuf packetBuffer = new FriendlyByteBuf(Unpooled.buffer());
         packetBuffer.writeVarInt(updateId);
         payloadWriter.accept(packetBuffer);
@@ -4,6 +4,7 @@ import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.screens.inventory.AbstractContainerScreen;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.player.Inventory;
@@ -58,6 +59,12 @@ public class ModularUIGui extends AbstractContainerScreen<ModularUIContainer> im
         Minecraft.getInstance().keyboardHandler.setSendRepeatsToGui(false);
     }
 
+    @Override
+    public void removed() {
+        super.removed();
+        modularUI.guiWidgets.values().forEach(Widget::onScreenClosed);
+    }
+
     @Override
     public void containerTick() {
         super.containerTick();
@@ -65,11 +72,15 @@ public class ModularUIGui extends AbstractContainerScreen<ModularUIContainer> im
     }
 
     public void handleWidgetUpdate(PacketUIWidgetUpdate packet) {
-        if (packet.windowId == menu.containerId) {
-            Widget widget = modularUI.guiWidgets.get(packet.widgetId);
-            int updateId = packet.updateData.readVarInt();
+        handleWidgetUpdate(packet.windowId, packet.widgetId, packet.updateData);
+    }
+
+    public void handleWidgetUpdate(int windowId, int widgetId, FriendlyByteBuf updateData) {
+        if (windowId == menu.containerId) {
+            Widget widget = modularUI.guiWidgets.get(widgetId);
+            int updateId = updateData.readVarInt();
             if (widget != null) {
-                widget.readUpdateInfo(updateId, packet.updateData);
+                widget.readUpdateInfo(updateId, updateData);
             }
         }
     }
@@ -9,6 +9,7 @@ import net.nemezanevem.gregtech.api.gui.resources.picturetexture.OrdinaryTexture
 import net.nemezanevem.gregtech.api.gui.resources.picturetexture.PictureTexture;
 import net.nemezanevem.gregtech.api.gui.resources.utils.GifDecoder;
 import net.nemezanevem.gregtech.api.gui.resources.utils.ImageUtils;
+import net.nemezanevem.gregtech.api.gui.resources.utils.PictureWorkerPool;
 import net.nemezanevem.gregtech.api.gui.resources.utils.ProcessedImageData;
 import org.apache.commons.compress.utils.IOUtils;
 
@@ -17,12 +18,13 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.concurrent.Future;
 
 public class FileTexture implements IGuiTexture{
     public final File file;
     private PictureTexture texture;
-    private ProcessedImageData imageData;
-    private Thread downloadThread;
+    private volatile ProcessedImageData imageData;
+    private Future<?> loadJob;
     private boolean failed;
 
     public FileTexture(File file) {
@@ -38,9 +40,10 @@ public class FileTexture implements IGuiTexture{
                 texture = new OrdinaryTexture(imageData);
             }
             imageData = null;
-            downloadThread = null;
-        } else if (downloadThread == null) {
-            downloadThread = new Thread(() -> {
+            loadJob = null;
+        } else if (loadJob == null) {
+            // null if the worker pool is busy, try again next frame
+            loadJob = PictureWorkerPool.submit(() -> {
                 FileInputStream inputStream = null;
                 try {
                     inputStream = new FileInputStream(file);
@@ -72,7 +75,14 @@ public class FileTexture implements IGuiTexture{
                     IOUtils.closeQuietly(inputStream);
                 }
             });
-            downloadThread.start();
+        }
+    }
+
+    @Override
+    public void unload() {
+        if (loadJob != null && imageData == null) {
+            loadJob.cancel(true);
+            loadJob = null;
         }
     }
 
@@ -5,5 +5,9 @@ import com.mojang.blaze3d.vertex.PoseStack;
 public interface IGuiTexture {
     void draw(PoseStack poseStack, double x, double y, int width, int height);
     default void updateTick() { }
+    /**
+     * Called when the screen showing this texture is closed, pending loads should be cancelled
+     */
+    default void unload() { }
     IGuiTexture EMPTY = (poseStack, x, y, width, height) -> {};
 }
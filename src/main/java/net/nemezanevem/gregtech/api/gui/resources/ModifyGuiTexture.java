@@ -25,6 +25,7 @@ public class ModifyGuiTexture implements IGuiTexture{
 
     public void setTexture(IGuiTexture texture) {
         if (texture != null) {
+            this.texture.unload();
             this.texture = texture;
         }
     }
@@ -55,6 +56,11 @@ public class ModifyGuiTexture implements IGuiTexture{
         texture.updateTick();
     }
 
+    @Override
+    public void unload() {
+        texture.unload();
+    }
+
     public JsonObject saveConfig() {
         JsonObject config = new JsonObject();
         if (texture instanceof TextureArea) {
@@ -43,16 +43,17 @@ public class URLTexture implements IGuiTexture{
     }
 
     public void loadTexture() {
+        if (texture != null && texture.isReleased()) {
+            // evicted from the loaded image cache, load it again
+            texture = null;
+        }
         if (texture == null && !failed) {
-            if (downloader == null && DownloadThread.activeDownloads < DownloadThread.MAXIMUM_ACTIVE_DOWNLOADS) {
-                PictureTexture loadedTexture = DownloadThread.loadedImages.get(url);
-                if (loadedTexture == null) {
-                    synchronized (DownloadThread.LOCK) {
-                        if (!DownloadThread.loadingImages.contains(url)) {
-                            downloader = new DownloadThread(url);
-                            return;
-                        }
-                    }
+            if (downloader == null) {
+                PictureTexture loadedTexture = DownloadThread.getLoadedImage(url);
+                if (loadedTexture == null || loadedTexture.isReleased()) {
+                    // null if the worker pool is busy, try again next frame
+                    downloader = DownloadThread.request(url);
+                    return;
                 } else {
                     texture = loadedTexture;
                 }
@@ -69,4 +70,12 @@ public class URLTexture implements IGuiTexture{
             }
         }
     }
+
+    @Override
+    public void unload() {
+        if (downloader != null) {
+            downloader.cancel();
+            downloader = null;
+        }
+    }
 }
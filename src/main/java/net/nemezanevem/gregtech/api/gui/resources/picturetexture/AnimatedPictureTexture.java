@@ -5,39 +5,55 @@ import net.nemezanevem.gregtech.api.gui.resources.utils.ProcessedImageData;
 
 import java.util.Arrays;
 
+/**
+ * Plays an animation through a small ring of textures instead of keeping one texture per frame.
+ * The displayed frame is uploaded on demand and the following frame is uploaded ahead of time on tick.
+ */
 public class AnimatedPictureTexture extends PictureTexture {
-    private final int[] textureIDs;
+    private static final int RING_SIZE = 2;
+
+    private final int[] textureIDs = new int[RING_SIZE];
+    private final int[] ringFrames = new int[RING_SIZE];
+    private int displayedSlot = -1;
+    private int nextSlot;
     private final long[] delay;
     private final long duration;
 
-    private int completedFrames;
-    private ProcessedImageData imageData;
+    private final ProcessedImageData imageData;
 
     public AnimatedPictureTexture(ProcessedImageData image) {
         super(image.getWidth(), image.getHeight());
         imageData = image;
-        textureIDs = new int[image.getFrameCount()];
         delay = image.getDelay();
         duration = image.getDuration();
         Arrays.fill(textureIDs, -1);
+        Arrays.fill(ringFrames, -1);
     }
 
     @Override
     public void tick() {
-        if (imageData != null) {
-            long startTime = System.currentTimeMillis();
-            int index = 0;
-            while (completedFrames < textureIDs.length && index < textureIDs.length && System.currentTimeMillis() - startTime < 10) {
-                while (textureIDs[index] != -1 && index < textureIDs.length - 1)
-                    index++;
-                if (textureIDs[index] == -1)
-                    textureIDs[index] = uploadFrame(index);
+        if (!released) {
+            int next = (getFrameIndex() + 1) % delay.length;
+            if (findSlot(next) == -1) {
+                upload(next, takeFreeSlot());
             }
         }
     }
 
     @Override
     public int getTextureID() {
+        if (released) return -1;
+        int frame = getFrameIndex();
+        int slot = findSlot(frame);
+        if (slot == -1) {
+            slot = takeFreeSlot();
+            upload(frame, slot);
+        }
+        displayedSlot = slot;
+        return textureIDs[slot];
+    }
+
+    private int getFrameIndex() {
         long time = duration > 0 ? System.currentTimeMillis() % duration : 0;
         int index = 0;
         for (int i = 0; i < delay.length; i++) {
@@ -46,20 +62,43 @@ public class AnimatedPictureTexture extends PictureTexture {
                 break;
             }
         }
-        return textureIDs[index];
+        return index;
     }
 
-    private int uploadFrame(int index) {
-        int id = imageData.uploadFrame(index);
-        textureIDs[index] = id;
-        if (++completedFrames >= imageData.getFrameCount()) {
-            imageData = null;
+    private int findSlot(int frame) {
+        for (int slot = 0; slot < RING_SIZE; slot++) {
+            if (ringFrames[slot] == frame) return slot;
         }
-        return id;
+        return -1;
+    }
+
+    /**
+     * @return the next slot of the ring that is not displayed, slots are independent of the frame parity
+     * so animations with an odd amount of frames do not upload the same frames over and over
+     */
+    private int takeFreeSlot() {
+        int slot = nextSlot;
+        if (slot == displayedSlot) {
+            slot = (slot + 1) % RING_SIZE;
+        }
+        nextSlot = (slot + 1) % RING_SIZE;
+        return slot;
+    }
+
+    private void upload(int frame, int slot) {
+        if (textureIDs[slot] == -1) {
+            textureIDs[slot] = imageData.uploadFrame(frame);
+        } else {
+            imageData.uploadFrame(frame, textureIDs[slot]);
+        }
+        ringFrames[slot] = frame;
     }
 
     @Override
     public void release() {
-        for (int textureID : textureIDs) RenderSystem.deleteTexture(textureID);
+        this.released = true;
+        for (int textureID : textureIDs) {
+            if (textureID != -1) RenderSystem.deleteTexture(textureID);
+        }
     }
 }
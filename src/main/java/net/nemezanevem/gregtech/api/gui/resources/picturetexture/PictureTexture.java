@@ -8,6 +8,7 @@ import org.lwjgl.opengl.GL11;
 public abstract class PictureTexture implements IGuiTexture {
     public int width;
     public int height;
+    protected boolean released;
 
     public PictureTexture(int width, int height) {
         this.width = width;
@@ -56,10 +57,15 @@ public abstract class PictureTexture implements IGuiTexture {
     public abstract int getTextureID();
 
     public boolean hasTexture() {
-        return getTextureID() != -1;
+        return !released && getTextureID() != -1;
+    }
+
+    public boolean isReleased() {
+        return released;
     }
 
     public void release() {
+        this.released = true;
         RenderSystem.deleteTexture(getTextureID());
     }
 }
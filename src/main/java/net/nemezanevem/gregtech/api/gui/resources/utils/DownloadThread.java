@@ -1,5 +1,6 @@
 package net.nemezanevem.gregtech.api.gui.resources.utils;
 
+import com.mojang.blaze3d.systems.RenderSystem;
 import net.nemezanevem.gregtech.GregTech;
 import net.nemezanevem.gregtech.api.gui.resources.picturetexture.AnimatedPictureTexture;
 import net.nemezanevem.gregtech.api.gui.resources.picturetexture.OrdinaryTexture;
@@ -8,6 +9,7 @@ import net.nemezanevem.gregtech.api.gui.resources.picturetexture.VideoTexture;
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 
+import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.*;
@@ -17,40 +19,88 @@ import java.net.URLConnection;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.Future;
 
-public class DownloadThread extends Thread {
+/**
+ * Downloads and decodes a picture on the {@link PictureWorkerPool}.
+ * Concurrent requests for the same url share one job, see {@link #request(String)}.
+ */
+public class DownloadThread implements Runnable {
     public static final Logger LOGGER = GregTech.LOGGER;
 
     public static final TextureCache TEXTURE_CACHE = new TextureCache();
     public static final DateFormat FORMAT = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss z");
     public static final Object LOCK = new Object();
-    public static final int MAXIMUM_ACTIVE_DOWNLOADS = 5;
+    public static final int MAXIMUM_LOADED_IMAGES = 64;
 
-    public static int activeDownloads = 0;
-
-    public static HashMap<String, PictureTexture> loadedImages = new HashMap<>();
-    public static Set<String> loadingImages = new HashSet<>();
+    /**
+     * Decoded textures by url, least recently used ones are released once the limit is exceeded
+     */
+    private static final LinkedHashMap<String, PictureTexture> loadedImages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PictureTexture> eldest) {
+            if (size() > MAXIMUM_LOADED_IMAGES) {
+                PictureTexture texture = eldest.getValue();
+                RenderSystem.recordRenderCall(texture::release);
+                return true;
+            }
+            return false;
+        }
+    };
+    private static final Map<String, DownloadThread> activeJobs = new HashMap<>();
 
     private final String url;
 
-    private ProcessedImageData processedImage;
-    private String error;
-    private boolean complete;
-    private boolean isVideo;
+    private volatile ProcessedImageData processedImage;
+    private volatile String error;
+    private volatile boolean complete;
+    private volatile boolean isVideo;
+    private volatile boolean cancelled;
+    private Future<?> future;
+    private int requesters;
 
-    public DownloadThread(String url) {
+    private DownloadThread(String url) {
         this.url = url;
-        synchronized (DownloadThread.LOCK) {
-            DownloadThread.loadingImages.add(url);
-            DownloadThread.activeDownloads++;
+    }
+
+    /**
+     * @return the job loading the url, shared with other requesters of the same url,
+     * or null if the worker pool is saturated and the request has to be repeated later
+     */
+    @Nullable
+    public static DownloadThread request(String url) {
+        synchronized (LOCK) {
+            DownloadThread job = activeJobs.get(url);
+            if (job == null) {
+                job = new DownloadThread(url);
+                Future<?> future = PictureWorkerPool.submit(job);
+                if (future == null) {
+                    return null;
+                }
+                job.future = future;
+                activeJobs.put(url, job);
+            }
+            job.requesters++;
+            return job;
+        }
+    }
+
+    /**
+     * Drops the interest of one requester, the job is cancelled once nobody waits for it anymore
+     */
+    public void cancel() {
+        synchronized (LOCK) {
+            if (--requesters <= 0 && !complete) {
+                cancelled = true;
+                future.cancel(true);
+                activeJobs.remove(url, this);
+            }
         }
-        setName("OPF Download \"" + url + "\"");
-        setDaemon(true);
-        start();
+    }
+
+    private boolean isCancelled() {
+        return cancelled || Thread.currentThread().isInterrupted();
     }
 
     public boolean hasFinished() {
@@ -74,6 +124,9 @@ public class DownloadThread extends Thread {
         Exception exception = null;
         try {
             byte[] data = load(url);
+            if (isCancelled()) {
+                return;
+            }
             String type = ImageUtils.readType(data);
             ByteArrayInputStream in = null;
             try {
@@ -106,6 +159,10 @@ public class DownloadThread extends Thread {
             exception = e;
             LOGGER.error("An exception occurred while loading OPFrame image", e);
         }
+        if (isCancelled()) {
+            // the failure came from the interrupt, the cached entry is still valid
+            return;
+        }
         if (!isVideo && processedImage == null) {
             if (exception == null)
                 error = "download.exception.gif";
@@ -119,11 +176,9 @@ public class DownloadThread extends Thread {
                 error = "download.exception.invalid";
             TEXTURE_CACHE.deleteEntry(url);
         }
-        complete = true;
-
         synchronized (DownloadThread.LOCK) {
-            DownloadThread.loadingImages.remove(url);
-            DownloadThread.activeDownloads--;
+            complete = true;
+            activeJobs.remove(url, this);
         }
     }
 
@@ -180,12 +235,9 @@ public class DownloadThread extends Thread {
                 }
                 entry.setTime(lastModifiedTimestamp);
                 if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
-                    File file = entry.getFile();
-                    if (file.exists()) {
-                        try (FileInputStream fileStream = new FileInputStream(file)) {
-                            return IOUtils.toByteArray(fileStream);
-                        }
-
+                    byte[] cached = TEXTURE_CACHE.readData(entry);
+                    if (cached != null) {
+                        return cached;
                     }
                 }
             }
@@ -197,7 +249,20 @@ public class DownloadThread extends Thread {
         }
     }
 
+    public static PictureTexture getLoadedImage(String url) {
+        synchronized (LOCK) {
+            return loadedImages.get(url);
+        }
+    }
+
     public static PictureTexture loadImage(DownloadThread thread) {
+        synchronized (LOCK) {
+            // another requester of the same job may have created the texture already
+            PictureTexture loaded = loadedImages.get(thread.url);
+            if (loaded != null && !loaded.isReleased()) {
+                return loaded;
+            }
+        }
         PictureTexture texture = null;
 
         if (!thread.hasFailed()) {
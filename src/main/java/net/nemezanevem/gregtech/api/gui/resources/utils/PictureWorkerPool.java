@@ -0,0 +1,42 @@
+package net.nemezanevem.gregtech.api.gui.resources.utils;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared workers for downloading and decoding pictures.
+ * The number of threads and queued jobs is bounded, jobs that do not fit are rejected and have to be requested again later.
+ */
+public class PictureWorkerPool {
+
+    public static final int WORKER_COUNT = 4;
+    public static final int MAXIMUM_QUEUED_JOBS = 32;
+
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(WORKER_COUNT, WORKER_COUNT,
+            30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAXIMUM_QUEUED_JOBS), runnable -> {
+        Thread thread = new Thread(runnable, "OPF Picture Worker #" + THREAD_ID.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private PictureWorkerPool() {
+    }
+
+    /**
+     * @return the future of the job, or null if the queue is full
+     */
+    @Nullable
+    public static Future<?> submit(Runnable job) {
+        try {
+            return EXECUTOR.submit(job);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+}
@@ -13,13 +13,17 @@ public class ProcessedImageData {
     private final int width;
     private final int height;
     private final Frame[] frames;
+    /** animation frames, converted to texel data only when they are uploaded */
+    private final BufferedImage[] sourceFrames;
     private final long[] delay;
     private final long duration;
+    private ByteBuffer uploadBuffer;
 
     public ProcessedImageData(BufferedImage image) {
         width = image.getWidth();
         height = image.getHeight();
-        frames = new Frame[] { loadFrom(image) };
+        frames = new Frame[] { loadFrom(image, null) };
+        sourceFrames = null;
         delay = new long[] { 0 };
         duration = 0;
     }
@@ -28,11 +32,12 @@ public class ProcessedImageData {
         Dimension frameSize = decoder.getFrameSize();
         width = (int) frameSize.getWidth();
         height = (int) frameSize.getHeight();
-        frames = new Frame[decoder.getFrameCount()];
+        frames = null;
+        sourceFrames = new BufferedImage[decoder.getFrameCount()];
         delay = new long[decoder.getFrameCount()];
         long time = 0;
         for (int i = 0; i < decoder.getFrameCount(); i++) {
-            frames[i] = loadFrom(decoder.getFrame(i));
+            sourceFrames[i] = decoder.getFrame(i);
             delay[i] = time;
             time += decoder.getDelay(i);
         }
@@ -56,26 +61,39 @@ public class ProcessedImageData {
     }
 
     public boolean isAnimated() {
-        return frames.length > 1;
+        return sourceFrames != null && sourceFrames.length > 1;
     }
 
     public int getFrameCount() {
-        return frames.length;
+        return sourceFrames != null ? sourceFrames.length : frames.length;
     }
 
     public int uploadFrame(int index) {
-        if (index >= 0 && index < frames.length) {
+        if (frames != null && index >= 0 && index < frames.length) {
             Frame frame = frames[index];
             if (frame != null) {
                 frames[index] = null;
-                return uploadFrame(frame.buffer, frame.hasAlpha, width, height);
+                return uploadFrame(GL11.glGenTextures(), frame.buffer, frame.hasAlpha, width, height);
             }
+        } else if (sourceFrames != null && index >= 0 && index < sourceFrames.length) {
+            return uploadFrame(index, GL11.glGenTextures());
         }
         return -1;
     }
 
-    private static int uploadFrame(ByteBuffer buffer, boolean hasAlpha, int width, int height) {
-        int textureID = GL11.glGenTextures(); //Generate texture ID
+    /**
+     * Converts an animation frame and uploads it into an existing texture, keeping the frame for later uploads.
+     * The texel data is written to a buffer reused between uploads.
+     */
+    public int uploadFrame(int index, int textureID) {
+        if (uploadBuffer == null) {
+            uploadBuffer = BufferUtils.createByteBuffer(width * height * 4);
+        }
+        Frame frame = loadFrom(sourceFrames[index], uploadBuffer);
+        return uploadFrame(textureID, frame.buffer, frame.hasAlpha, width, height);
+    }
+
+    private static int uploadFrame(int textureID, ByteBuffer buffer, boolean hasAlpha, int width, int height) {
         GL11.glBindTexture(GL11.GL_TEXTURE_2D, textureID); //Bind texture ID
 
         //Setup wrap mode
@@ -97,7 +115,7 @@ public class ProcessedImageData {
         return textureID;
     }
 
-    private static Frame loadFrom(BufferedImage image) {
+    private static Frame loadFrom(BufferedImage image, ByteBuffer target) {
         int width = image.getWidth();
         int height = image.getHeight();
         int[] pixels = new int[width * height];
@@ -112,7 +130,12 @@ public class ProcessedImageData {
             }
         }
         int bytesPerPixel = hasAlpha ? 4 : 3;
-        ByteBuffer buffer = BufferUtils.createByteBuffer(width * height * bytesPerPixel);
+        ByteBuffer buffer = target;
+        if (buffer == null) {
+            buffer = BufferUtils.createByteBuffer(width * height * bytesPerPixel);
+        } else {
+            buffer.clear();
+        }
         for (int pixel : pixels) {
             buffer.put((byte) ((pixel >> 16) & 0xFF)); // Red component
             buffer.put((byte) ((pixel >> 8) & 0xFF)); // Green component
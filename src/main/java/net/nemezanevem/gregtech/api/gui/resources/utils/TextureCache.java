@@ -1,87 +1,266 @@
 package net.nemezanevem.gregtech.api.gui.resources.utils;
 
 import net.minecraft.client.Minecraft;
-import org.apache.commons.codec.binary.Base64;
+import net.nemezanevem.gregtech.common.ConfigHolder;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 
 import java.io.*;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+/**
+ * Disk cache for downloaded pictures.
+ * <p>
+ * Files are stored under the SHA-1 of their content, so several urls serving the same picture share one file.
+ * The total size of the stored files is bounded by a byte budget, least recently used entries are evicted first.
+ * File writes and index saves happen on a background thread, index saves are batched.
+ * Anything still pending is written when the game shuts down, see {@link #flush()}.
+ */
 public class TextureCache {
-    private File cacheDirectory = new File(Minecraft.getInstance().gameDirectory, "opframe_cache");
-    private File index = new File(cacheDirectory, "index");
+    private static final int INDEX_VERSION = 2;
+    private static final long INDEX_SAVE_DELAY_MS = 5000;
 
-    private Map<String, CacheEntry> entries = new HashMap<>();
+    private final File cacheDirectory;
+    private final File index;
+    private final LongSupplier byteBudget;
+    private final ScheduledExecutorService ioExecutor;
+
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    /** how many entries reference each content hash */
+    private final Map<String, Integer> hashReferences = new HashMap<>();
+    /** data not yet written to disk, by content hash */
+    private final Map<String, byte[]> pendingWrites = new HashMap<>();
+    private long storedBytes;
+    private boolean indexSaveScheduled;
 
     public TextureCache() {
+        this(new File(Minecraft.getInstance().gameDirectory, "opframe_cache"),
+                () -> ConfigHolder.ClientConfig.pictureCacheSize.get() * 1024L * 1024L);
+    }
+
+    public TextureCache(File cacheDirectory, LongSupplier byteBudget) {
+        this.cacheDirectory = cacheDirectory;
+        this.index = new File(cacheDirectory, "index");
+        this.byteBudget = byteBudget;
+        this.ioExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OPF Texture Cache IO");
+            thread.setDaemon(true);
+            return thread;
+        });
         if (!cacheDirectory.exists()) {
             cacheDirectory.mkdirs();
         }
         loadIndex();
+        // the io thread is a daemon, without this the last downloads would be missing from the index and deleted on the next start
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "OPF Texture Cache Flush"));
+    }
+
+    public synchronized void save(String url, String etag, long time, long expireTime, byte[] data) {
+        String hash = DigestUtils.sha1Hex(data);
+        CacheEntry previous = entries.remove(url);
+        if (previous != null) {
+            releaseHash(previous);
+        }
+        CacheEntry entry = new CacheEntry(url, etag, time, expireTime, hash, data.length);
+        entries.put(url, entry);
+        if (retainHash(hash)) {
+            storedBytes += data.length;
+            pendingWrites.put(hash, data);
+            ioExecutor.execute(() -> writeData(hash));
+        }
+        evict();
+        scheduleIndexSave();
+    }
+
+    public synchronized CacheEntry getEntry(String url) {
+        return entries.get(url);
+    }
+
+    /**
+     * @return the cached data of the entry, or null if it is missing on disk
+     */
+    public byte[] readData(CacheEntry entry) throws IOException {
+        synchronized (this) {
+            byte[] pending = pendingWrites.get(entry.getHash());
+            if (pending != null) {
+                return pending;
+            }
+        }
+        File file = entry.getFile();
+        return file.exists() ? FileUtils.readFileToByteArray(file) : null;
     }
 
-    public void save(String url, String etag, long time, long expireTime, byte[] data) {
-        CacheEntry entry = new CacheEntry(url, etag, time, expireTime);
-        boolean saved = false;
-        OutputStream out = null;
+    public synchronized void deleteEntry(String url) {
+        CacheEntry entry = entries.remove(url);
+        if (entry != null) {
+            releaseHash(entry);
+            scheduleIndexSave();
+        }
+    }
+
+    /**
+     * Stops the background thread and writes pending data and the index on the calling thread.
+     * Called on shutdown, the cache cannot save entries afterwards.
+     */
+    public void flush() {
+        ioExecutor.shutdownNow();
         try {
-            out = new FileOutputStream(entry.getFile());
+            // let a write in progress complete, queued ones are done below
+            ioExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<String> pending;
+        synchronized (this) {
+            pending = new ArrayList<>(pendingWrites.keySet());
+        }
+        for (String hash : pending) {
+            writeData(hash);
+        }
+        saveIndex();
+    }
+
+    public synchronized long getStoredBytes() {
+        return storedBytes;
+    }
+
+    private void evict() {
+        long budget = byteBudget.getAsLong();
+        Iterator<CacheEntry> iterator = entries.values().iterator();
+        while (storedBytes > budget && iterator.hasNext()) {
+            CacheEntry eldest = iterator.next();
+            iterator.remove();
+            releaseHash(eldest);
+        }
+    }
+
+    /**
+     * @return true if the hash was not referenced before
+     */
+    private boolean retainHash(String hash) {
+        return hashReferences.merge(hash, 1, Integer::sum) == 1;
+    }
+
+    /**
+     * Drops the reference of the entry to its content, the size recorded in the entry is released with the last reference
+     */
+    private void releaseHash(CacheEntry entry) {
+        String hash = entry.getHash();
+        Integer references = hashReferences.get(hash);
+        if (references == null) return;
+        if (references > 1) {
+            hashReferences.put(hash, references - 1);
+            return;
+        }
+        hashReferences.remove(hash);
+        pendingWrites.remove(hash);
+        storedBytes -= entry.getSize();
+        ioExecutor.execute(() -> deleteFile(hash));
+    }
+
+    private void writeData(String hash) {
+        byte[] data;
+        synchronized (this) {
+            data = pendingWrites.get(hash);
+        }
+        if (data == null) return;
+        File file = new File(cacheDirectory, hash);
+        try (OutputStream out = new FileOutputStream(file)) {
             out.write(data);
-            saved = true;
         } catch (IOException e) {
-            DownloadThread.LOGGER.error("Failed to save cache entry {}", url, e);
-        } finally {
-            IOUtils.closeQuietly(out);
+            DownloadThread.LOGGER.error("Failed to save cache entry {}", hash, e);
         }
-        if (saved) {
-            entries.put(url, entry);
-            saveIndex();
+        synchronized (this) {
+            pendingWrites.remove(hash, data);
         }
     }
 
-    public CacheEntry getEntry(String url) {
-        return entries.get(url);
+    private void deleteFile(String hash) {
+        synchronized (this) {
+            // the same content may have been saved again in the meantime
+            if (hashReferences.containsKey(hash)) return;
+        }
+        File file = new File(cacheDirectory, hash);
+        if (file.exists()) {
+            file.delete();
+        }
+    }
+
+    private void scheduleIndexSave() {
+        if (!indexSaveScheduled) {
+            this.indexSaveScheduled = true;
+            ioExecutor.schedule(this::saveIndex, INDEX_SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
     }
 
     private void loadIndex() {
         if (index.exists()) {
-            Map<String, CacheEntry> previousEntries = entries;
-            entries = new HashMap<>();
             DataInputStream in = null;
             try {
                 in = new DataInputStream(new GZIPInputStream(new FileInputStream(index)));
-                int length = in.readInt();
-                for (int i = 0; i < length; i++) {
-                    String url = in.readUTF();
-                    String etag = in.readUTF();
-                    long time = in.readLong();
-                    long expireTime = in.readLong();
-                    CacheEntry entry = new CacheEntry(url, etag.length() > 0 ? etag : null, time, expireTime);
-                    entries.put(entry.getUrl(), entry);
+                if (in.readInt() == -INDEX_VERSION) {
+                    int length = in.readInt();
+                    for (int i = 0; i < length; i++) {
+                        String url = in.readUTF();
+                        String etag = in.readUTF();
+                        long time = in.readLong();
+                        long expireTime = in.readLong();
+                        String hash = in.readUTF();
+                        int size = in.readInt();
+                        if (!new File(cacheDirectory, hash).exists()) continue;
+                        CacheEntry entry = new CacheEntry(url, etag.length() > 0 ? etag : null, time, expireTime, hash, size);
+                        entries.put(entry.getUrl(), entry);
+                        if (retainHash(hash)) {
+                            storedBytes += size;
+                        }
+                    }
                 }
             } catch (IOException e) {
                 DownloadThread.LOGGER.error("Failed to load cache index", e);
-                entries = previousEntries;
+                entries.clear();
+                hashReferences.clear();
+                storedBytes = 0;
             } finally {
                 IOUtils.closeQuietly(in);
             }
         }
+        // drop files that are not referenced anymore, including files of the old url-named cache format
+        File[] files = cacheDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (!file.equals(index) && !hashReferences.containsKey(file.getName())) {
+                    file.delete();
+                }
+            }
+        }
+        evict();
     }
 
     private void saveIndex() {
+        List<CacheEntry> snapshot;
+        synchronized (this) {
+            this.indexSaveScheduled = false;
+            snapshot = new ArrayList<>(entries.values());
+        }
         DataOutputStream out = null;
         try {
             out = new DataOutputStream(new GZIPOutputStream(new FileOutputStream(index)));
-            out.writeInt(entries.size());
-            for (Map.Entry<String, CacheEntry> mapEntry : entries.entrySet()) {
-                CacheEntry entry = mapEntry.getValue();
+            out.writeInt(-INDEX_VERSION);
+            out.writeInt(snapshot.size());
+            for (CacheEntry entry : snapshot) {
                 out.writeUTF(entry.getUrl());
                 out.writeUTF(entry.getEtag() == null ? "" : entry.getEtag());
                 out.writeLong(entry.getTime());
                 out.writeLong(entry.getExpireTime());
+                out.writeUTF(entry.getHash());
+                out.writeInt(entry.getSize());
             }
         } catch (IOException e) {
             DownloadThread.LOGGER.error("Failed to save cache index", e);
@@ -90,41 +269,42 @@ public class TextureCache {
         }
     }
 
-    public void deleteEntry(String url) {
-        entries.remove(url);
-        File file = getFile(url);
-        if (file.exists()) {
-            file.delete();
-        }
-    }
-
-    private static File getFile(String url) {
-        return new File(DownloadThread.TEXTURE_CACHE.cacheDirectory, Base64.encodeBase64String(url.getBytes()));
-    }
-
-    public static class CacheEntry {
-        private String url;
+    public class CacheEntry {
+        private final String url;
+        private final String hash;
+        private final int size;
         private String etag;
         private long time;
         private long expireTime;
 
-        public CacheEntry(String url, String etag, long time, long expireTime) {
+        public CacheEntry(String url, String etag, long time, long expireTime, String hash, int size) {
             this.url = url;
             this.etag = etag;
             this.time = time;
             this.expireTime = expireTime;
+            this.hash = hash;
+            this.size = size;
         }
 
         public void setEtag(String etag) {
             this.etag = etag;
+            scheduleSave();
         }
 
         public void setTime(long time) {
             this.time = time;
+            scheduleSave();
         }
 
         public void setExpireTime(long expireTime) {
             this.expireTime = expireTime;
+            scheduleSave();
+        }
+
+        private void scheduleSave() {
+            synchronized (TextureCache.this) {
+                scheduleIndexSave();
+            }
         }
 
         public String getUrl() {
@@ -143,8 +323,16 @@ public class TextureCache {
             return expireTime;
         }
 
+        public String getHash() {
+            return hash;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
         public File getFile() {
-            return TextureCache.getFile(url);
+            return new File(cacheDirectory, hash);
         }
     }
 }
@@ -260,6 +260,13 @@ public class AbstractWidgetGroup extends Widget implements IGhostIngredientTarge
         }
     }
 
+    @Override
+    public void onScreenClosed() {
+        for (Widget widget : widgets) {
+            widget.onScreenClosed();
+        }
+    }
+
     @Override
     public void updateScreenOnFrame() {
         for (Widget widget : widgets) {
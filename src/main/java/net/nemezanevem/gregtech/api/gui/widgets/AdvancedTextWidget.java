@@ -38,6 +38,7 @@ public class AdvancedTextWidget extends Widget {
     protected final Consumer<List<Component>> textSupplier;
     protected BiConsumer<String, ClickData> clickHandler;
     private List<Component> displayText = new ArrayList<>();
+    private List<Component> textBuffer = new ArrayList<>();
     private final int color;
 
     public AdvancedTextWidget(int xPosition, int yPosition, Consumer<List<Component>> text, int color) {
@@ -107,9 +108,12 @@ public class AdvancedTextWidget extends Widget {
 
     @Override
     public void detectAndSendChanges() {
-        ArrayList<Component> textBuffer = new ArrayList<>();
+        List<Component> textBuffer = this.textBuffer;
+        textBuffer.clear();
         textSupplier.accept(textBuffer);
         if (!displayText.equals(textBuffer)) {
+            // swap the lists instead of copying, the old display list becomes the next scratch buffer
+            this.textBuffer = displayText;
             this.displayText = textBuffer;
             writeUpdateInfo(1, buffer -> {
                 buffer.writeVarInt(displayText.size());
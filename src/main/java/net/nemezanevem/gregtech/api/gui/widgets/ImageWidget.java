@@ -70,6 +70,13 @@ public class ImageWidget extends Widget {
         }
     }
 
+    @Override
+    public void onScreenClosed() {
+        if (area != null) {
+            area.unload();
+        }
+    }
+
     @Override
     public void detectAndSendChanges() {
         super.detectAndSendChanges();
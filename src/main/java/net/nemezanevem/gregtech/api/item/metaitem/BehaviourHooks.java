@@ -0,0 +1,64 @@
+package net.nemezanevem.gregtech.api.item.metaitem;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.nemezanevem.gregtech.api.item.metaitem.stats.IItemBehaviour;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Behaviours of a {@link MetaItem} split by the hooks they actually override,
+ * so item callbacks only visit behaviours which do something in them.
+ */
+final class BehaviourHooks {
+
+    static final BehaviourHooks EMPTY = new BehaviourHooks(Collections.emptyList());
+
+    final IItemBehaviour[] onLeftClickEntity;
+    final IItemBehaviour[] itemInteractionForEntity;
+    final IItemBehaviour[] onItemUseFirst;
+    final IItemBehaviour[] onItemUse;
+    final IItemBehaviour[] addInformation;
+    final IItemBehaviour[] onUpdate;
+    final IItemBehaviour[] getAttributeModifiers;
+    final IItemBehaviour[] onItemRightClick;
+
+    BehaviourHooks(List<IItemBehaviour> behaviours) {
+        this.onLeftClickEntity = collect(behaviours, "onLeftClickEntity", ItemStack.class, Player.class, Entity.class);
+        this.itemInteractionForEntity = collect(behaviours, "itemInteractionForEntity", ItemStack.class, Player.class, LivingEntity.class, InteractionHand.class);
+        this.onItemUseFirst = collect(behaviours, "onItemUseFirst", Player.class, Level.class, BlockPos.class, Direction.class, double.class, double.class, double.class, InteractionHand.class);
+        this.onItemUse = collect(behaviours, "onItemUse", Player.class, Level.class, BlockPos.class, InteractionHand.class, Direction.class, double.class, double.class, double.class);
+        this.addInformation = collect(behaviours, "addInformation", ItemStack.class, List.class);
+        this.onUpdate = collect(behaviours, "onUpdate", ItemStack.class, Entity.class);
+        this.getAttributeModifiers = collect(behaviours, "getAttributeModifiers", EquipmentSlot.class, ItemStack.class);
+        this.onItemRightClick = collect(behaviours, "onItemRightClick", Level.class, Player.class, InteractionHand.class);
+    }
+
+    private static IItemBehaviour[] collect(List<IItemBehaviour> behaviours, String hook, Class<?>... parameterTypes) {
+        List<IItemBehaviour> overriding = new ArrayList<>();
+        for (IItemBehaviour behaviour : behaviours) {
+            if (overrides(behaviour, hook, parameterTypes)) {
+                overriding.add(behaviour);
+            }
+        }
+        return overriding.toArray(new IItemBehaviour[0]);
+    }
+
+    private static boolean overrides(IItemBehaviour behaviour, String hook, Class<?>... parameterTypes) {
+        try {
+            return behaviour.getClass().getMethod(hook, parameterTypes).getDeclaringClass() != IItemBehaviour.class;
+        } catch (NoSuchMethodException e) {
+            // can not tell, keep the behaviour in the hook
+            return true;
+        }
+    }
+}
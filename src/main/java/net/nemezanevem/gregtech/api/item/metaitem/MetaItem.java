@@ -92,6 +92,7 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
 
     private final List<IItemComponent> allStats = new ArrayList<>();
     private final List<IItemBehaviour> behaviours = new ArrayList<>();
+    private BehaviourHooks behaviourHooks = BehaviourHooks.EMPTY;
     private IItemUseManager useManager;
     private ItemUIFactory uiManager;
     private IItemColorProvider colorProvider;
@@ -206,11 +207,19 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
     public List<IItemBehaviour> getBehaviours(ItemStack itemStack) {
         Item item = itemStack.getItem();
         if (item instanceof MetaItem metaItem) {
-            metaItem.getBehaviours();
+            return metaItem.getBehaviours();
         }
         return ImmutableList.<IItemBehaviour>of();
     }
 
+    private static BehaviourHooks getBehaviourHooks(ItemStack itemStack) {
+        Item item = itemStack.getItem();
+        if (item instanceof MetaItem metaItem) {
+            return metaItem.behaviourHooks;
+        }
+        return BehaviourHooks.EMPTY;
+    }
+
     @Override
     public int getMaxStackSize(@Nonnull ItemStack stack) {
         /*Item item = stack.getItem();
@@ -274,7 +283,7 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
     @Override
     public boolean onLeftClickEntity(@Nonnull ItemStack stack, @Nonnull Player player, @Nonnull Entity entity) {
         boolean returnValue = false;
-        for (IItemBehaviour behaviour : getBehaviours(stack)) {
+        for (IItemBehaviour behaviour : getBehaviourHooks(stack).onLeftClickEntity) {
             if (behaviour.onLeftClickEntity(stack, player, entity)) {
                 returnValue = true;
             }
@@ -285,7 +294,7 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
     @Override
     public InteractionResult interactLivingEntity(@Nonnull ItemStack stack, @Nonnull Player playerIn, @Nonnull LivingEntity target, @Nonnull InteractionHand hand) {
         InteractionResult returnValue = InteractionResult.PASS;
-        for (IItemBehaviour behaviour : getBehaviours(stack)) {
+        for (IItemBehaviour behaviour : getBehaviourHooks(stack).itemInteractionForEntity) {
             if (behaviour.itemInteractionForEntity(stack, playerIn, target, hand)) {
                 returnValue = InteractionResult.SUCCESS;
             }
@@ -297,7 +306,7 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
     @Override
     public InteractionResultHolder<ItemStack> use(@Nonnull Level world, Player player, @Nonnull InteractionHand hand) {
         ItemStack itemStack = player.getItemInHand(hand);
-        for (IItemBehaviour behaviour : getBehaviours(itemStack)) {
+        for (IItemBehaviour behaviour : getBehaviourHooks(itemStack).onItemRightClick) {
             InteractionResultHolder<ItemStack> behaviourResult = behaviour.onItemRightClick(world, player, hand);
             itemStack = behaviourResult.getObject();
             if (behaviourResult.getResult() != InteractionResult.PASS) {
@@ -319,7 +328,7 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
     @Override
     public InteractionResult onItemUseFirst(ItemStack stack, UseOnContext context) {
         ItemStack itemStack = context.getPlayer().getItemInHand(context.getHand());
-        for (IItemBehaviour behaviour : getBehaviours(itemStack)) {
+        for (IItemBehaviour behaviour : getBehaviourHooks(itemStack).onItemUseFirst) {
             var hitLoc = context.getClickLocation();
             InteractionResult behaviourResult = behaviour.onItemUseFirst(context.getPlayer(), context.getLevel(), context.getClickedPos(), context.getClickedFace(), hitLoc.x, hitLoc.y, hitLoc.z, context.getHand());
             if (behaviourResult != InteractionResult.PASS) {
@@ -336,7 +345,7 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
     public InteractionResult useOn(UseOnContext context) {
         ItemStack stack = context.getPlayer().getItemInHand(context.getHand());
         ItemStack originalStack = stack.copy();
-        for (IItemBehaviour behaviour : getBehaviours(stack)) {
+        for (IItemBehaviour behaviour : getBehaviourHooks(stack).onItemUse) {
             var hitLoc = context.getClickLocation();
             InteractionResultHolder<ItemStack> behaviourResult = behaviour.onItemUse(context.getPlayer(), context.getLevel(), context.getClickedPos(), context.getHand(), context.getClickedFace(), hitLoc.x, hitLoc.y, hitLoc.z);
             stack = behaviourResult.getObject();
@@ -358,7 +367,7 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
         HashMultimap<Attribute, AttributeModifier> modifiers = HashMultimap.create();
         Item metaValueItem = stack.getItem();
         if (metaValueItem instanceof MetaItem) {
-            for (IItemBehaviour behaviour : getBehaviours(stack)) {
+            for (IItemBehaviour behaviour : getBehaviourHooks(stack).getAttributeModifiers) {
                 modifiers.putAll(behaviour.getAttributeModifiers(slot, stack));
             }
         }
@@ -393,7 +402,7 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
 
     @Override
     public void inventoryTick(@Nonnull ItemStack stack, @Nonnull Level worldIn, @Nonnull Entity entityIn, int itemSlot, boolean isSelected) {
-        for (IItemBehaviour behaviour : getBehaviours(stack)) {
+        for (IItemBehaviour behaviour : getBehaviourHooks(stack).onUpdate) {
             behaviour.onUpdate(stack, entityIn);
         }
     }
@@ -487,7 +496,7 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
             }
         }
 
-        for (IItemBehaviour behaviour : getBehaviours(itemStack)) {
+        for (IItemBehaviour behaviour : getBehaviourHooks(itemStack).addInformation) {
             behaviour.addInformation(itemStack, lines);
         }
 
@@ -576,6 +585,14 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
         return Collections.unmodifiableList(behaviours);
     }
 
+    /**
+     * Adds behaviours to this item and rebuilds the per hook dispatch of all its behaviours
+     */
+    protected void addBehaviours(List<IItemBehaviour> behaviours) {
+        this.behaviours.addAll(behaviours);
+        this.behaviourHooks = new BehaviourHooks(this.behaviours);
+    }
+
     @Nullable
     public IItemDurabilityManager getDurabilityManager() {
         return durabilityManager;
@@ -720,6 +737,7 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
                 TagUnifier.registerTag(item, data.getKey(), data.getValue());
             }
             addItemComponentsInternal(item, components);
+            item.addBehaviours(behaviours);
             return item;
         }
 
@@ -735,6 +753,7 @@ public abstract class MetaItem extends Item implements ItemUIFactory {
                 TagUnifier.registerTag(item, data.getKey(), data.getValue());
             }
             addItemComponentsInternal(item, components);
+            item.addBehaviours(behaviours);
             return item;
         }
 
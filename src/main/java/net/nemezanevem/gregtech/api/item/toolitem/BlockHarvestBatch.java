@@ -0,0 +1,180 @@
+package net.nemezanevem.gregtech.api.item.toolitem;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.ExperienceOrb;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.items.ItemHandlerHelper;
+import net.nemezanevem.gregtech.GregTech;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.BiPredicate;
+
+/**
+ * Breaks a group of blocks with one tool as a single harvest.
+ * Drops and experience of all broken blocks are merged and spawned once the batch is finished,
+ * tool damage is accumulated and applied at once.
+ * Batches are only used on the server thread.
+ */
+@Mod.EventBusSubscriber(modid = GregTech.MODID)
+public final class BlockHarvestBatch {
+
+    @Nullable
+    private static BlockHarvestBatch harvesting;
+
+    private final ServerPlayer player;
+    private final Level world;
+    private final ItemStack tool;
+    private final BlockPos dropPos;
+    private final int remainingUses;
+
+    private final Map<Item, List<ItemStack>> drops = new LinkedHashMap<>();
+    private int experience;
+    private int toolDamage;
+    private boolean finished;
+
+    public BlockHarvestBatch(ServerPlayer player, ItemStack tool, BlockPos dropPos) {
+        this.player = player;
+        // the player may change dimension before the batch is finished, the drops belong to this one
+        this.world = player.level;
+        this.tool = tool;
+        this.dropPos = dropPos;
+        this.remainingUses = ToolHelper.getRemainingUses(tool);
+    }
+
+    /**
+     * Breaks the block as the player would, keeping its drops and tool damage in this batch
+     *
+     * @return false if the block could not be broken or the tool cannot take more damage
+     */
+    public boolean harvest(BlockPos pos) {
+        if (finished || toolDamage >= remainingUses) {
+            return false;
+        }
+        BlockHarvestBatch previous = harvesting;
+        harvesting = this;
+        try {
+            return ToolHelper.breakBlockRoutine(player, tool, pos);
+        } finally {
+            harvesting = previous;
+        }
+    }
+
+    /**
+     * Applies the accumulated tool damage and spawns the merged drops and experience
+     */
+    public void finish() {
+        if (finished) return;
+        this.finished = true;
+        if (toolDamage > 0) {
+            ToolHelper.damageItem(tool, player, toolDamage);
+        }
+        boolean relocateMinedBlocks = tool.getItem() instanceof IGTTool && ToolHelper.getBehaviorsTag(tool).getBoolean(ToolHelper.RELOCATE_MINED_BLOCKS_KEY);
+        for (List<ItemStack> stacks : drops.values()) {
+            for (ItemStack stack : stacks) {
+                if (relocateMinedBlocks) {
+                    player.getInventory().add(stack);
+                }
+                if (!stack.isEmpty()) {
+                    ItemEntity entity = new ItemEntity(world, dropPos.getX() + 0.5, dropPos.getY() + 0.5, dropPos.getZ() + 0.5, stack);
+                    entity.setDefaultPickUpDelay();
+                    world.addFreshEntity(entity);
+                }
+            }
+        }
+        drops.clear();
+        if (experience > 0) {
+            ExperienceOrb.award((ServerLevel) world, Vec3.atCenterOf(dropPos), experience);
+            this.experience = 0;
+        }
+    }
+
+    private void addDrop(ItemStack drop) {
+        List<ItemStack> stacks = drops.computeIfAbsent(drop.getItem(), item -> new ArrayList<>(1));
+        for (ItemStack stack : stacks) {
+            int space = stack.getMaxStackSize() - stack.getCount();
+            if (space > 0 && ItemHandlerHelper.canItemStacksStack(stack, drop)) {
+                int moved = Math.min(space, drop.getCount());
+                stack.grow(moved);
+                drop.shrink(moved);
+                if (drop.isEmpty()) return;
+            }
+        }
+        stacks.add(drop.copy());
+    }
+
+    /**
+     * Defers damage dealt to the tool of the batch currently harvesting to the end of the batch
+     *
+     * @return true if the damage was deferred and must not be applied now
+     */
+    static boolean deferDamage(ItemStack stack, @Nullable LivingEntity entity, int damage) {
+        BlockHarvestBatch batch = harvesting;
+        if (batch != null && batch.tool == stack && batch.player == entity) {
+            batch.toolDamage += damage;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Collects the blocks connected to the start position matching the predicate, closest ones first.
+     * Blocks touching only by an edge or a corner count as connected.
+     *
+     * @param limit maximum amount of positions collected, the start position excluded
+     */
+    public static List<BlockPos> collectConnected(Level world, BlockPos start, BiPredicate<BlockPos, BlockState> predicate, int limit) {
+        List<BlockPos> result = new ArrayList<>();
+        LongSet visited = new LongOpenHashSet();
+        Deque<BlockPos> queue = new ArrayDeque<>();
+        visited.add(start.asLong());
+        queue.add(start);
+        BlockPos.MutableBlockPos neighbour = new BlockPos.MutableBlockPos();
+        while (!queue.isEmpty() && result.size() < limit) {
+            BlockPos pos = queue.poll();
+            for (int x = -1; x <= 1; x++) {
+                for (int y = -1; y <= 1; y++) {
+                    for (int z = -1; z <= 1; z++) {
+                        neighbour.setWithOffset(pos, x, y, z);
+                        if (!visited.add(neighbour.asLong()) || !world.isLoaded(neighbour)) continue;
+                        if (predicate.test(neighbour, world.getBlockState(neighbour))) {
+                            BlockPos found = neighbour.immutable();
+                            result.add(found);
+                            queue.add(found);
+                            if (result.size() >= limit) return result;
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        BlockHarvestBatch batch = harvesting;
+        if (batch == null || event.loadedFromDisk() || event.getLevel() != batch.world) return;
+        Entity entity = event.getEntity();
+        if (entity instanceof ItemEntity) {
+            batch.addDrop(((ItemEntity) entity).getItem());
+            event.setCanceled(true);
+        } else if (entity instanceof ExperienceOrb) {
+            batch.experience += ((ExperienceOrb) entity).getValue();
+            event.setCanceled(true);
+        }
+    }
+}
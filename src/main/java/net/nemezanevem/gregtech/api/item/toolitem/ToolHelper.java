@@ -243,6 +243,9 @@ public final class ToolHelper {
      * @param damage how much damage the stack will take
      */
     public static void damageItem(@Nonnull ItemStack stack, @Nullable LivingEntity entity, int damage) {
+        if (BlockHarvestBatch.deferDamage(stack, entity, damage)) {
+            return;
+        }
         if (!(stack.getItem() instanceof IGTTool)) {
             if (entity != null) stack.setDamageValue(stack.getDamageValue() + damage);
         } else {
@@ -369,29 +372,41 @@ public final class ToolHelper {
         return AoESymmetrical.read(getBehaviorsTag(stack), getMaxAoEDefinition(stack));
     }
 
+    /**
+     * @return how many more times the tool can be damaged before it breaks or runs out of charge
+     */
+    public static int getRemainingUses(ItemStack stack) {
+        if (!(stack.getItem() instanceof IGTTool)) {
+            return stack.isDamageableItem() ? stack.getMaxDamage() - stack.getDamageValue() : Integer.MAX_VALUE;
+        }
+        if (stack.getTag() != null && stack.getTag().getBoolean(UNBREAKABLE_KEY)) {
+            return Integer.MAX_VALUE;
+        }
+        if (((IGTTool) stack.getItem()).isElectric()) {
+            IElectricItem electricItem = stack.getCapability(GregtechCapabilities.CAPABILITY_ELECTRIC_ITEM, null).resolve().orElse(null);
+            if (electricItem != null) {
+                return (int) Math.min(Integer.MAX_VALUE, electricItem.getCharge() / Math.max(1, ConfigHolder.machines.energyUsageMultiplier));
+            }
+        }
+        return getToolTag(stack).getInt(MAX_DURABILITY_KEY) - getToolTag(stack).getInt(DURABILITY_KEY);
+    }
+
     /**
      * AoE Block Breaking Routine.
+     * The blocks are broken as one {@link BlockHarvestBatch}, drops are merged and spawned at the targeted block.
      */
     public static boolean areaOfEffectBlockBreakRoutine(ItemStack stack, ServerPlayer player) {
-        int currentDurability = getToolTag(stack).getInteger(DURABILITY_KEY);
-        int maximumDurability = getToolTag(stack).getInteger(MAX_DURABILITY_KEY);
-        int remainingUses = maximumDurability - currentDurability;
         Set<BlockPos> harvestableBlocks = getHarvestableBlocks(stack, player);
         if (!harvestableBlocks.isEmpty()) {
+            RayTraceResult rayTraceResult = getPlayerDefaultRaytrace(player);
+            BlockPos dropPos = rayTraceResult != null ? rayTraceResult.getBlockPos() : harvestableBlocks.iterator().next();
+            BlockHarvestBatch batch = new BlockHarvestBatch(player, stack, dropPos);
             for (BlockPos pos : harvestableBlocks) {
-                if (!breakBlockRoutine(player, stack, pos)) {
-                    return true;
-                }
-
-                remainingUses--;
-                if (stack.getItem() instanceof IGTTool && !((IGTTool) stack.getItem()).isElectric() && remainingUses == 0) {
-                    return true;
-                }
-                // If the tool is an electric tool, catch the tool breaking and cancel the remaining AOE
-                else if (!player.getHeldItemMainhand().isItemEqualIgnoreDurability(stack)) {
-                    return true;
+                if (!batch.harvest(pos)) {
+                    break;
                 }
             }
+            batch.finish();
             return true;
         }
         return false;
@@ -574,9 +589,9 @@ public final class ToolHelper {
      * - Works with weird Oak Trees (thanks to Syrcan for pointing out)
      * - Brought back tick-spread behaviour:
      * - Tree-felling is validated in the same tick as the stem being broken
-     * - 1 block broken per tick, akin to chorus fruit
-     * - Fix cheating durability loss
-     * - Eliminates leaves as well as logs
+     * - A bounded amount of logs broken per tick, see {@link TreeFellingListener}
+     * - Fix cheating durability loss, the tool is damaged once for the whole tree
+     * - Drops of the whole tree are merged and spawned at the stem
      */
     public static void treeFellingRoutine(ServerPlayer player, ItemStack stack, BlockPos start) {
         BlockState state = player.world.getBlockState(start);
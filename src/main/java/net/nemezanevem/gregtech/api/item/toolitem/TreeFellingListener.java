@@ -0,0 +1,83 @@
+package net.nemezanevem.gregtech.api.item.toolitem;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.nemezanevem.gregtech.api.util.TaskScheduler;
+import net.nemezanevem.gregtech.api.util.function.Task;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Fells the logs connected to a broken stem over several ticks, breaking at most {@link #BLOCKS_PER_TICK} logs each tick.
+ * All logs are harvested in one {@link BlockHarvestBatch}, so drops are merged and spawned at the stem once the tree is gone.
+ */
+public class TreeFellingListener implements Task {
+
+    public static final int MAXIMUM_TREE_SIZE = 1024;
+    public static final int BLOCKS_PER_TICK = 16;
+
+    private final ServerPlayer player;
+    private final Level world;
+    private final ItemStack tool;
+    private final Block stem;
+    private final Deque<BlockPos> logs;
+    private final BlockHarvestBatch batch;
+
+    private TreeFellingListener(ServerPlayer player, Level world, ItemStack tool, Block stem, BlockPos start, List<BlockPos> logs) {
+        this.player = player;
+        this.world = world;
+        this.tool = tool;
+        this.stem = stem;
+        this.logs = new ArrayDeque<>(logs);
+        this.batch = new BlockHarvestBatch(player, tool, start);
+    }
+
+    /**
+     * Starts felling the tree of the stem, the stem itself is left to the regular block breaking.
+     * Only logs of the same block as the stem at or above it are felled,
+     * so neighbouring trees of other species and log buildings below are left alone.
+     */
+    public static void start(BlockState state, ItemStack tool, BlockPos start, ServerPlayer player) {
+        Level world = player.level;
+        Block stem = state.getBlock();
+        List<BlockPos> logs = BlockHarvestBatch.collectConnected(world, start,
+                (pos, neighbour) -> pos.getY() >= start.getY() && neighbour.is(stem), MAXIMUM_TREE_SIZE);
+        if (!logs.isEmpty()) {
+            TaskScheduler.scheduleTask(world, new TreeFellingListener(player, world, tool, stem, start, logs));
+        }
+    }
+
+    @Override
+    public boolean run() {
+        // stop if the player left the dimension, the same coordinates must not be felled in the new one
+        if (player.hasDisconnected() || player.level != world || !ItemStack.isSameIgnoreDurability(player.getMainHandItem(), tool)) {
+            batch.finish();
+            return false;
+        }
+        for (int i = 0; i < BLOCKS_PER_TICK && !logs.isEmpty(); i++) {
+            BlockPos pos = logs.poll();
+            // the log may have been removed in the meantime
+            if (!world.getBlockState(pos).is(stem)) continue;
+            if (!batch.harvest(pos)) {
+                logs.clear();
+            }
+        }
+        if (logs.isEmpty()) {
+            batch.finish();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void onUnload() {
+        // keep the drops, experience and tool damage of the logs broken so far
+        batch.finish();
+    }
+}
@@ -0,0 +1,144 @@
+package net.nemezanevem.gregtech.api.pipenet;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.nemezanevem.gregtech.GregTech;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Caches resolved capabilities of the blocks pipe networks transfer into, keyed by position, side and capability.
+ * <p>
+ * Entries are dropped when the capability is invalidated, when the block notifies its neighbours
+ * or calls {@link #invalidate(LevelAccessor, BlockPos)}, and when its chunk is unloaded.
+ * Only present capabilities are cached, missing ones are looked up again on every query.
+ * Caches exist for server levels only and are used on the server thread.
+ */
+@EventBusSubscriber(modid = GregTech.MODID)
+public class EndpointCapabilityCache {
+
+    private static final Map<LevelAccessor, EndpointCapabilityCache> cachesByWorld = new WeakHashMap<>();
+
+    private final Level world;
+    private final Long2ObjectMap<List<Entry>> entriesByPos = new Long2ObjectOpenHashMap<>();
+    // optionals already carrying an invalidation listener, so re-resolving one does not add another
+    private final Set<LazyOptional<?>> listenedOptionals = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private EndpointCapabilityCache(Level world) {
+        this.world = world;
+    }
+
+    public static EndpointCapabilityCache get(Level world) {
+        if (world.isClientSide) {
+            // never shared, the map of caches is only touched by the server thread
+            return new EndpointCapabilityCache(world);
+        }
+        return cachesByWorld.computeIfAbsent(world, EndpointCapabilityCache::new);
+    }
+
+    /**
+     * Drops all cached capabilities of the block at the position,
+     * to be called by blocks whose capabilities change without invalidating them
+     */
+    public static void invalidate(LevelAccessor world, BlockPos pos) {
+        if (world.isClientSide()) return;
+        EndpointCapabilityCache cache = cachesByWorld.get(world);
+        if (cache != null) {
+            cache.entriesByPos.remove(pos.asLong());
+        }
+    }
+
+    /**
+     * @return the capability of the block entity at the position, or null if there is none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T getCapability(BlockPos pos, @Nullable Direction side, Capability<T> capability) {
+        long key = pos.asLong();
+        List<Entry> entries = entriesByPos.get(key);
+        if (entries != null) {
+            for (Entry entry : entries) {
+                if (entry.side == side && entry.capability == capability) {
+                    return (T) entry.handler;
+                }
+            }
+        }
+        BlockEntity tile = world.getBlockEntity(pos);
+        if (tile == null) {
+            return null;
+        }
+        LazyOptional<T> optional = tile.getCapability(capability, side);
+        T handler = optional.resolve().orElse(null);
+        if (handler == null) {
+            return null;
+        }
+        Entry entry = new Entry(side, capability, optional, handler);
+        if (entries == null) {
+            entries = new ArrayList<>(1);
+            entriesByPos.put(key, entries);
+        }
+        entries.add(entry);
+        if (listenedOptionals.add(optional)) {
+            optional.addListener(invalidated -> remove(key, invalidated));
+        }
+        return handler;
+    }
+
+    private void remove(long key, LazyOptional<?> optional) {
+        listenedOptionals.remove(optional);
+        List<Entry> entries = entriesByPos.get(key);
+        if (entries != null && entries.removeIf(entry -> entry.optional == optional) && entries.isEmpty()) {
+            entriesByPos.remove(key);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        invalidate(event.getLevel(), event.getPos());
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel().isClientSide()) return;
+        EndpointCapabilityCache cache = cachesByWorld.get(event.getLevel());
+        if (cache != null && !cache.entriesByPos.isEmpty()) {
+            ChunkPos chunkPos = event.getChunk().getPos();
+            cache.entriesByPos.keySet().removeIf((long key) ->
+                    BlockPos.getX(key) >> 4 == chunkPos.x && BlockPos.getZ(key) >> 4 == chunkPos.z);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) return;
+        cachesByWorld.remove(event.getLevel());
+    }
+
+    private static class Entry {
+        private final Direction side;
+        private final Capability<?> capability;
+        private final LazyOptional<?> optional;
+        private final Object handler;
+
+        private Entry(@Nullable Direction side, Capability<?> capability, LazyOptional<?> optional, Object handler) {
+            this.side = side;
+            this.capability = capability;
+            this.optional = optional;
+            this.handler = handler;
+        }
+    }
+}
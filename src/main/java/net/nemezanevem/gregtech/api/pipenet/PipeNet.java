@@ -25,6 +25,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<Compound
     private final Map<ChunkPos, Integer> ownedChunks = new HashMap<>();
     private long lastUpdate;
     boolean isValid = false;
+    long homeRegion;
 
     public PipeNet(WorldPipeNet<NodeDataType, ? extends PipeNet> world) {
         //noinspection unchecked
@@ -83,13 +84,13 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<Compound
     protected void addNode(BlockPos nodePos, Node<NodeDataType> node) {
         addNodeSilently(nodePos, node);
         onNodeConnectionsUpdate();
-        worldData.setDirty();
+        worldData.markNetDirty(this);
     }
 
     protected Node<NodeDataType> removeNodeWithoutRebuilding(BlockPos nodePos) {
         Node<NodeDataType> removedNode = this.nodeByBlockPos.remove(nodePos);
         ensureRemovedFromChunk(nodePos);
-        worldData.setDirty();
+        worldData.markNetDirty(this);
         return removedNode;
     }
 
@@ -171,7 +172,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<Compound
             }
         }
         onNodeConnectionsUpdate();
-        worldData.setDirty();
+        worldData.markNetDirty(this);
     }
 
     protected void updateMark(BlockPos nodePos, int newMark) {
@@ -222,7 +223,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<Compound
             }
         }
         onNodeConnectionsUpdate();
-        worldData.setDirty();
+        worldData.markNetDirty(this);
     }
 
     private void setBlocked(Node<NodeDataType> selfNode, Direction facing, boolean isBlocked) {
@@ -236,7 +237,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<Compound
     public boolean markNodeAsActive(BlockPos nodePos, boolean isActive) {
         if (containsNode(nodePos) && getNodeAt(nodePos).isActive != isActive) {
             getNodeAt(nodePos).isActive = isActive;
-            worldData.setDirty();
+            worldData.markNetDirty(this);
             onNodeConnectionsUpdate();
             return true;
         }
@@ -336,7 +337,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<Compound
             worldData.removePipeNet(this);
         }
         onNodeConnectionsUpdate();
-        worldData.setDirty();
+        worldData.markNetDirty(this);
     }
 
     protected boolean areNodesCustomContactable(NodeDataType first, NodeDataType second, PipeNet<NodeDataType> secondNodePipeNet) {
@@ -357,7 +358,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<Compound
     protected void transferNodeData(Map<BlockPos, Node<NodeDataType>> transferredNodes, PipeNet<NodeDataType> parentNet) {
         transferredNodes.forEach(this::addNodeSilently);
         onNodeConnectionsUpdate();
-        worldData.setDirty();
+        worldData.markNetDirty(this);
     }
 
     /**
@@ -0,0 +1,47 @@
+package net.nemezanevem.gregtech.api.pipenet;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.level.saveddata.SavedData;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the pipe nets of one {@link WorldPipeNet} whose home is a single region of chunks.
+ * Every shard is its own saved data file, so only shards with changed nets are written on save.
+ */
+final class PipeNetRegionShard<T extends PipeNet<?>> extends SavedData {
+
+    final long region;
+    final List<T> pipeNets = new ArrayList<>();
+
+    PipeNetRegionShard(long region) {
+        this.region = region;
+    }
+
+    static <T extends PipeNet<?>> PipeNetRegionShard<T> load(WorldPipeNet<?, T> owner, long region, CompoundTag nbt) {
+        PipeNetRegionShard<T> shard = new PipeNetRegionShard<>(region);
+        ListTag allPipeNets = nbt.getList("PipeNets", Tag.TAG_COMPOUND);
+        for (int i = 0; i < allPipeNets.size(); i++) {
+            T pipeNet = owner.createNetInstance();
+            pipeNet.deserializeNBT(allPipeNets.getCompound(i));
+            pipeNet.homeRegion = region;
+            shard.pipeNets.add(pipeNet);
+        }
+        return shard;
+    }
+
+    @Nonnull
+    @Override
+    public CompoundTag save(@Nonnull CompoundTag compound) {
+        ListTag allPipeNets = new ListTag();
+        for (T pipeNet : pipeNets) {
+            allPipeNets.add(pipeNet.serializeNBT());
+        }
+        compound.put("PipeNets", allPipeNets);
+        return compound;
+    }
+}
@@ -1,11 +1,14 @@
 package net.nemezanevem.gregtech.api.pipenet;
 
+import it.unimi.dsi.fastutil.longs.*;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.saveddata.SavedData;
@@ -15,12 +18,32 @@ import javax.annotation.Nonnull;
 import java.lang.ref.WeakReference;
 import java.util.*;
 
+/**
+ * Pipe nets of one dimension.
+ * <p>
+ * The nets are persisted in region shards of {@link #REGION_SIZE}x{@link #REGION_SIZE} chunks, each net belongs to the
+ * region it was created in. This saved data only keeps the index of which regions every shard covers,
+ * shards are saved separately when their nets change and are loaded lazily once a covered chunk is loaded.
+ */
 public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>> extends SavedData {
 
+    private static final int REGION_SHIFT = 5;
+    public static final int REGION_SIZE = 1 << REGION_SHIFT;
+
     private WeakReference<Level> worldRef = new WeakReference<>(null);
+    private String dataID;
     protected List<T> pipeNets = new ArrayList<>();
     protected final Map<ChunkPos, List<T>> pipeNetsByChunk = new HashMap<>();
 
+    private final Long2ObjectMap<PipeNetRegionShard<T>> loadedShards = new Long2ObjectOpenHashMap<>();
+    /** regions covered by the nets of each shard, as of the last save */
+    private final Long2ObjectMap<LongSet> coveredRegionsByShard = new Long2ObjectOpenHashMap<>();
+    /** inverse of {@link #coveredRegionsByShard} for shards that were saved before */
+    private final Long2ObjectMap<LongList> shardsByCoveredRegion = new Long2ObjectOpenHashMap<>();
+    private final LongSet loadedRegions = new LongOpenHashSet();
+    /** nets read from the old single file format, moved into shards once the world is known */
+    private boolean hasLegacyPipeNets;
+
     public WorldPipeNet() {
         super();
     }
@@ -29,13 +52,19 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         return this.worldRef.get();
     }
 
-    protected void setWorldAndInit(Level world) {
+    protected void setWorldAndInit(Level world, String dataID) {
         if (world != this.worldRef.get()) {
             this.worldRef = new WeakReference<>(world);
+            this.dataID = dataID;
+            WorldPipeNetEventHandler.track(world, this);
             onWorldSet();
         }
     }
 
+    public static long getRegion(ChunkPos chunkPos) {
+        return ChunkPos.asLong(chunkPos.x >> REGION_SHIFT, chunkPos.z >> REGION_SHIFT);
+    }
+
     public static String getDataID(final String baseID, final Level world) {
         if (world == null || world.isClientSide)
             throw new RuntimeException("WorldPipeNet should only be created on the server!");
@@ -44,7 +73,68 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     }
 
     protected void onWorldSet() {
-        this.pipeNets.forEach(PipeNet::onNodeConnectionsUpdate);
+        if (hasLegacyPipeNets) {
+            this.hasLegacyPipeNets = false;
+            for (T pipeNet : pipeNets) {
+                assignShard(pipeNet);
+            }
+            setDirty();
+        }
+        onPipeNetsLoaded(new ArrayList<>(pipeNets));
+    }
+
+    /**
+     * Called for nets which were read from disk, either on world set or when their shard was loaded lazily
+     */
+    protected void onPipeNetsLoaded(List<T> loadedPipeNets) {
+        loadedPipeNets.forEach(PipeNet::onNodeConnectionsUpdate);
+    }
+
+    /**
+     * Loads every shard with nets in the region of the chunk, if it was not loaded yet
+     */
+    public void ensureRegionLoaded(ChunkPos chunkPos) {
+        long region = getRegion(chunkPos);
+        if (getWorld() == null || !loadedRegions.add(region)) return;
+        LongList shards = shardsByCoveredRegion.get(region);
+        if (shards == null) return;
+        for (long shard : shards) {
+            getShard(shard);
+        }
+    }
+
+    /**
+     * Marks the shard holding the net as changed, so it will be written on the next save
+     */
+    public void markNetDirty(PipeNet<?> pipeNet) {
+        if (!pipeNet.isValid) return;
+        PipeNetRegionShard<T> shard = loadedShards.get(pipeNet.homeRegion);
+        if (shard != null) {
+            shard.setDirty();
+        }
+    }
+
+    private PipeNetRegionShard<T> getShard(long region) {
+        PipeNetRegionShard<T> shard = loadedShards.get(region);
+        if (shard == null) {
+            ServerLevel world = (ServerLevel) getWorld();
+            String shardID = dataID + ".r." + ChunkPos.getX(region) + '.' + ChunkPos.getZ(region);
+            shard = world.getDataStorage().computeIfAbsent(tag -> PipeNetRegionShard.load(this, region, tag),
+                    () -> new PipeNetRegionShard<>(region), shardID);
+            loadedShards.put(region, shard);
+            shard.pipeNets.forEach(this::addPipeNetSilently);
+            onPipeNetsLoaded(shard.pipeNets);
+        }
+        return shard;
+    }
+
+    private void assignShard(T pipeNet) {
+        Iterator<ChunkPos> chunks = pipeNet.getContainedChunks().iterator();
+        long region = chunks.hasNext() ? getRegion(chunks.next()) : 0L;
+        PipeNetRegionShard<T> shard = getShard(region);
+        pipeNet.homeRegion = region;
+        shard.pipeNets.add(pipeNet);
+        shard.setDirty();
     }
 
     public void addNode(BlockPos nodePos, NodeDataType nodeData, int mark, int openConnections, boolean isActive) {
@@ -75,12 +165,17 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
 
     protected void addPipeNetToChunk(ChunkPos chunkPos, T pipeNet) {
         this.pipeNetsByChunk.computeIfAbsent(chunkPos, any -> new ArrayList<>()).add(pipeNet);
+        if (pipeNet.isValid) {
+            // covered regions of the shard may have changed
+            setDirty();
+        }
     }
 
     protected void removePipeNetFromChunk(ChunkPos chunkPos, T pipeNet) {
         List<T> list = this.pipeNetsByChunk.get(chunkPos);
         if (list != null) list.remove(pipeNet);
         if (list.isEmpty()) this.pipeNetsByChunk.remove(chunkPos);
+        setDirty();
     }
 
     public void removeNode(BlockPos nodePos) {
@@ -106,7 +201,9 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     }
 
     public T getNetFromPos(BlockPos blockPos) {
-        List<T> pipeNetsInChunk = pipeNetsByChunk.getOrDefault(new ChunkPos(blockPos), Collections.emptyList());
+        ChunkPos chunkPos = new ChunkPos(blockPos);
+        ensureRegionLoaded(chunkPos);
+        List<T> pipeNetsInChunk = pipeNetsByChunk.getOrDefault(chunkPos, Collections.emptyList());
         for (T pipeNet : pipeNetsInChunk) {
             if (pipeNet.containsNode(blockPos))
                 return pipeNet;
@@ -116,6 +213,8 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
 
     protected void addPipeNet(T pipeNet) {
         addPipeNetSilently(pipeNet);
+        assignShard(pipeNet);
+        setDirty();
     }
 
     protected void addPipeNetSilently(T pipeNet) {
@@ -128,30 +227,62 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         this.pipeNets.remove(pipeNet);
         pipeNet.getContainedChunks().forEach(chunkPos -> removePipeNetFromChunk(chunkPos, pipeNet));
         pipeNet.isValid = false;
+        PipeNetRegionShard<T> shard = loadedShards.get(pipeNet.homeRegion);
+        if (shard != null && shard.pipeNets.remove(pipeNet)) {
+            shard.setDirty();
+        }
+        setDirty();
     }
 
     protected abstract T createNetInstance();
 
     public void readFromNBT(CompoundTag nbt) {
         this.pipeNets = new ArrayList<>();
+        ListTag allShards = nbt.getList("Shards", Tag.TAG_COMPOUND);
+        for (int i = 0; i < allShards.size(); i++) {
+            CompoundTag shardTag = allShards.getCompound(i);
+            long region = shardTag.getLong("Region");
+            LongSet coveredRegions = new LongOpenHashSet(shardTag.getLongArray("CoveredRegions"));
+            coveredRegionsByShard.put(region, coveredRegions);
+            for (long coveredRegion : coveredRegions) {
+                shardsByCoveredRegion.computeIfAbsent(coveredRegion, any -> new LongArrayList()).add(region);
+            }
+        }
+        // nets saved before sharding are all stored in this file
         ListTag allEnergyNets = nbt.getList("PipeNets", Tag.TAG_COMPOUND);
         for (int i = 0; i < allEnergyNets.size(); i++) {
             CompoundTag pNetTag = allEnergyNets.getCompound(i);
             T pipeNet = createNetInstance();
             pipeNet.deserializeNBT(pNetTag);
             addPipeNetSilently(pipeNet);
+            this.hasLegacyPipeNets = true;
         }
     }
 
     @Nonnull
     @Override
     public CompoundTag save(@Nonnull CompoundTag compound) {
-        ListTag allPipeNets = new ListTag();
-        for (T pipeNet : pipeNets) {
-            CompoundTag pNetTag = pipeNet.serializeNBT();
-            allPipeNets.add(pNetTag);
+        for (PipeNetRegionShard<T> shard : loadedShards.values()) {
+            if (shard.pipeNets.isEmpty()) {
+                coveredRegionsByShard.remove(shard.region);
+                continue;
+            }
+            LongSet coveredRegions = new LongOpenHashSet();
+            for (T pipeNet : shard.pipeNets) {
+                for (ChunkPos chunkPos : pipeNet.getContainedChunks()) {
+                    coveredRegions.add(getRegion(chunkPos));
+                }
+            }
+            coveredRegionsByShard.put(shard.region, coveredRegions);
+        }
+        ListTag allShards = new ListTag();
+        for (Long2ObjectMap.Entry<LongSet> entry : coveredRegionsByShard.long2ObjectEntrySet()) {
+            CompoundTag shardTag = new CompoundTag();
+            shardTag.putLong("Region", entry.getLongKey());
+            shardTag.put("CoveredRegions", new LongArrayTag(entry.getValue().toLongArray()));
+            allShards.add(shardTag);
         }
-        compound.put("PipeNets", allPipeNets);
+        compound.put("Shards", allShards);
         return compound;
     }
 }
@@ -0,0 +1,39 @@
+package net.nemezanevem.gregtech.api.pipenet;
+
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.nemezanevem.gregtech.GregTech;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Loads pipe net shards lazily when chunks of their regions are loaded
+ */
+@EventBusSubscriber(modid = GregTech.MODID)
+public class WorldPipeNetEventHandler {
+
+    private static final Map<LevelAccessor, List<WorldPipeNet<?, ?>>> pipeNetsByWorld = new WeakHashMap<>();
+
+    static void track(LevelAccessor world, WorldPipeNet<?, ?> worldPipeNet) {
+        List<WorldPipeNet<?, ?>> worldPipeNets = pipeNetsByWorld.computeIfAbsent(world, any -> new ArrayList<>());
+        if (!worldPipeNets.contains(worldPipeNet)) {
+            worldPipeNets.add(worldPipeNet);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        LevelAccessor world = event.getLevel();
+        if (world.isClientSide())
+            return;
+        List<WorldPipeNet<?, ?>> worldPipeNets = pipeNetsByWorld.get(world);
+        if (worldPipeNets != null) {
+            worldPipeNets.forEach(it -> it.ensureRegionLoaded(event.getChunk().getPos()));
+        }
+    }
+}
@@ -40,6 +40,7 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
 
     public void onChunkLoaded(ChunkAccess chunk) {
         ChunkPos chunkPos = chunk.getPos();
+        ensureRegionLoaded(chunkPos);
         List<T> pipeNetsInThisChunk = this.pipeNetsByChunk.get(chunkPos);
         if (pipeNetsInThisChunk == null) return;
         for (T pipeNet : pipeNetsInThisChunk) {
@@ -67,9 +68,9 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
     }
 
     @Override
-    protected void onWorldSet() {
-        super.onWorldSet();
-        Map<T, List<ChunkPos>> pipeNetByLoadedChunks = pipeNets.stream()
+    protected void onPipeNetsLoaded(List<T> loadedPipeNets) {
+        super.onPipeNetsLoaded(loadedPipeNets);
+        Map<T, List<ChunkPos>> pipeNetByLoadedChunks = loadedPipeNets.stream()
                 .map(pipeNet -> Pair.of(pipeNet, getPipeNetLoadedChunks(pipeNet)))
                 .filter(pair -> !pair.getRight().isEmpty())
                 .collect(Collectors.toMap(Pair::getLeft, Pair::getRight));
@@ -8,17 +8,23 @@ import net.minecraftforge.registries.ForgeRegistries;
 
 import java.util.Objects;
 
+/**
+ * Key of a fluid and its NBT, ignoring the amount.
+ * Canonical instances are handed out by {@link KeySharedStack#getRegisteredFluid(FluidStack)}.
+ */
 public class FluidKey {
 
     public final ResourceLocation fluid;
     // Don't make this final, so we can clear the NBT if we remove the only key, resulting in an NBT of {}. Thanks Forge
     public CompoundTag tag;
     private final int amount;
+    private final int hashCode;
 
     public FluidKey(FluidStack fluidStack) {
         this.fluid = ForgeRegistries.FLUIDS.getKey(fluidStack.getFluid());
         this.tag = fluidStack.getTag();
         this.amount = fluidStack.getAmount();
+        this.hashCode = makeHashCode();
     }
 
     public FluidKey copy() {
@@ -31,7 +37,7 @@ public class FluidKey {
         if (this == o) return true;
         if (!(o instanceof FluidKey)) return false;
         FluidKey fluidKey = (FluidKey) o;
-        if (!Objects.equals(fluid, fluidKey.fluid) )
+        if (hashCode != fluidKey.hashCode || !Objects.equals(fluid, fluidKey.fluid))
             return false;
         if (tag == null && fluidKey.tag != null) return false;
         else return tag == null || tag.equals(fluidKey.tag);
@@ -39,6 +45,10 @@ public class FluidKey {
 
     @Override
     public int hashCode() {
+        return hashCode;
+    }
+
+    private int makeHashCode() {
         int hash = 0;
         hash += Objects.hash(fluid);
         if (tag != null && !tag.isEmpty()) {
@@ -0,0 +1,100 @@
+package net.nemezanevem.gregtech.api.recipe;
+
+import codechicken.lib.util.ServerUtils;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.nemezanevem.gregtech.api.recipe.ingredient.ExtendedIngredient;
+import net.nemezanevem.gregtech.api.recipe.ingredient.FluidIngredient;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+/**
+ * Fuel recipes of a recipe type indexed by their input fluid or item.
+ * An index is built on first use and rebuilt once the server replaces its recipe manager, which happens on every recipe reload.
+ * Lookups are a map get followed by a match against the few recipes using the fuel.
+ */
+public class FuelIndex {
+
+    private static final Map<GTRecipeType<?>, FuelIndex> indexes = new IdentityHashMap<>();
+
+    private final WeakReference<RecipeManager> recipeManager;
+    private final Map<Fluid, List<GTRecipe>> fluidFuels = new IdentityHashMap<>();
+    private final Map<Item, List<GTRecipe>> itemFuels = new IdentityHashMap<>();
+
+    private FuelIndex(GTRecipeType<?> recipeType, RecipeManager recipeManager) {
+        this.recipeManager = new WeakReference<>(recipeManager);
+        for (GTRecipe recipe : recipeManager.getAllRecipesFor(recipeType)) {
+            for (FluidIngredient fluidInput : recipe.getFluidInputs()) {
+                for (FluidStack fluid : fluidInput.getFluids()) {
+                    addFuel(fluidFuels, fluid.getFluid(), recipe);
+                }
+            }
+            for (ExtendedIngredient input : recipe.getInputs()) {
+                for (ItemStack stack : input.getItems()) {
+                    addFuel(itemFuels, stack.getItem(), recipe);
+                }
+            }
+        }
+    }
+
+    private static <K> void addFuel(Map<K, List<GTRecipe>> fuels, K key, GTRecipe recipe) {
+        List<GTRecipe> recipes = fuels.computeIfAbsent(key, k -> new ArrayList<>(1));
+        if (!recipes.contains(recipe)) {
+            recipes.add(recipe);
+        }
+    }
+
+    /**
+     * @return the index of the recipe type for the recipes currently loaded on the server
+     */
+    @Nonnull
+    public static synchronized FuelIndex get(GTRecipeType<?> recipeType) {
+        RecipeManager manager = ServerUtils.getServer().getRecipeManager();
+        FuelIndex index = indexes.get(recipeType);
+        if (index == null || index.recipeManager.get() != manager) {
+            index = new FuelIndex(recipeType, manager);
+            indexes.put(recipeType, index);
+        }
+        return index;
+    }
+
+    /**
+     * @return the first fuel recipe the fluid is enough for, or null if there is none
+     */
+    @Nullable
+    public GTRecipe getFuelRecipe(@Nullable FluidStack fuel) {
+        if (fuel == null || fuel.isEmpty()) return null;
+        List<GTRecipe> recipes = fluidFuels.get(fuel.getFluid());
+        if (recipes == null) return null;
+        List<FluidStack> fluidInputs = Collections.singletonList(fuel);
+        for (GTRecipe recipe : recipes) {
+            if (recipe.matches(false, Collections.emptyList(), fluidInputs)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the first fuel recipe the item stack is enough for, or null if there is none
+     */
+    @Nullable
+    public GTRecipe getFuelRecipe(@Nonnull ItemStack fuel) {
+        if (fuel.isEmpty()) return null;
+        List<GTRecipe> recipes = itemFuels.get(fuel.getItem());
+        if (recipes == null) return null;
+        List<ItemStack> inputs = Collections.singletonList(fuel);
+        for (GTRecipe recipe : recipes) {
+            if (recipe.matches(false, inputs, Collections.emptyList())) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+}
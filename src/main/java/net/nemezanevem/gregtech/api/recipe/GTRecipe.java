@@ -688,7 +688,6 @@ public class GTRecipe implements Recipe<CraftingContainer> {
 
         public GTRecipe fromNetwork(ResourceLocation pRecipeId, FriendlyByteBuf pBuffer) {
             GTRecipeType<?> type = pBuffer.readRegistryId();
-            ResourceLocation id = pBuffer.readResourceLocation();
 
             int size = pBuffer.readVarInt();
             NonNullList<ExtendedIngredient> inputs = NonNullList.withSize(size, ExtendedIngredient.EMPTY);
@@ -718,12 +717,12 @@ public class GTRecipe implements Recipe<CraftingContainer> {
 
             IRecipePropertyStorage storage = IRecipePropertyStorage.fromNetwork(pBuffer);
 
-            return new GTRecipe(type, id, inputs, results, chanced, fluids, fluidOutputs, duration, eUt, hidden, storage);
+            return new GTRecipe(type, pRecipeId, inputs, results, chanced, fluids, fluidOutputs, duration, eUt, hidden, storage);
         }
 
         public void toNetwork(FriendlyByteBuf pBuffer, GTRecipe recipe) {
+            // the recipe id is already sent by the recipe packet
             pBuffer.writeRegistryId(ForgeRegistries.RECIPE_TYPES, recipe.type);
-            pBuffer.writeResourceLocation(recipe.id);
 
             pBuffer.writeVarInt(recipe.inputs.size());
             for(ExtendedIngredient ingredient : recipe.inputs) {
@@ -740,7 +739,7 @@ public class GTRecipe implements Recipe<CraftingContainer> {
                 ingredient.toNetwork(pBuffer);
             }
 
-            pBuffer.writeVarInt(recipe.chancedOutputs.size());
+            pBuffer.writeVarInt(recipe.fluidInputs.size());
             for (FluidIngredient ingredient : recipe.fluidInputs) {
                 ingredient.toNetwork(pBuffer);
             }
@@ -751,7 +750,7 @@ public class GTRecipe implements Recipe<CraftingContainer> {
             }
 
             pBuffer.writeVarInt(recipe.duration);
-            pBuffer.writeVarLong(recipe.EUt);
+            pBuffer.writeVarInt(recipe.EUt);
             pBuffer.writeBoolean(recipe.hidden);
 
             recipe.recipePropertyStorage.toNetwork(pBuffer);
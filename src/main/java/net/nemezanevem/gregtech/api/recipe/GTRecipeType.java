@@ -77,6 +77,10 @@ public class GTRecipeType<R extends GTRecipeBuilder<R>> implements RecipeType<GT
 
     private final Branch lookup = new Branch();
     private boolean hastaggedInputs = false;
+    /**
+     * Sorted, de-duplicated view of {@link #lookup}, rebuilt lazily after the recipe map changed
+     */
+    private volatile RecipeListSnapshot recipeListSnapshot;
     private static final WeakHashMap<AbstractMapIngredient, WeakReference<AbstractMapIngredient>> ingredientRoot = new WeakHashMap<>();
     private final WeakHashMap<AbstractMapIngredient, WeakReference<AbstractMapIngredient>> fluidIngredientRoot = new WeakHashMap<>();
 
@@ -180,11 +184,13 @@ public class GTRecipeType<R extends GTRecipeBuilder<R>> implements RecipeType<GT
         }
         List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
         recurseIngredientTreeAdd(recipe, items, lookup, 0, 0);
+        invalidateRecipeListSnapshot();
     }
 
     public boolean removeRecipe(GTRecipe recipe) {
         List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
         if (recurseIngredientTreeRemove(recipe, items, lookup, 0) != null) {
+            invalidateRecipeListSnapshot();
             return true;
         }
         return false;
@@ -814,9 +820,52 @@ public class GTRecipeType<R extends GTRecipeBuilder<R>> implements RecipeType<GT
         return builder;
     }
 
+    /**
+     * @return an immutable list of all recipes in this map, sorted by duration and then EU/t
+     */
     public Collection<GTRecipe> getRecipeList() {
-        ObjectOpenHashSet<GTRecipe> recipes = new ObjectOpenHashSet<>();
-        return lookup.getRecipes(true).filter(recipes::add).sorted(RECIPE_DURATION_THEN_EU).collect(Collectors.toList());
+        return getRecipeListSnapshot().recipes();
+    }
+
+    /**
+     * @return the highest {@link GTRecipe#getPropertyCount()} of all recipes in this map
+     */
+    public int getMaxPropertyCount() {
+        return getRecipeListSnapshot().maxPropertyCount();
+    }
+
+    /**
+     * Drops the snapshot under the lock it is built with, so a rebuild that read the lookup before the change
+     * cannot publish its stale snapshot afterwards
+     */
+    private void invalidateRecipeListSnapshot() {
+        synchronized (lookup) {
+            this.recipeListSnapshot = null;
+        }
+    }
+
+    @Nonnull
+    private RecipeListSnapshot getRecipeListSnapshot() {
+        RecipeListSnapshot snapshot = this.recipeListSnapshot;
+        if (snapshot == null) {
+            synchronized (lookup) {
+                snapshot = this.recipeListSnapshot;
+                if (snapshot == null) {
+                    ObjectOpenHashSet<GTRecipe> recipes = new ObjectOpenHashSet<>();
+                    List<GTRecipe> recipeList = lookup.getRecipes(true).filter(recipes::add).sorted(RECIPE_DURATION_THEN_EU).toList();
+                    int maxPropertyCount = 0;
+                    for (GTRecipe recipe : recipeList) {
+                        maxPropertyCount = Math.max(maxPropertyCount, recipe.getPropertyCount());
+                    }
+                    snapshot = new RecipeListSnapshot(recipeList, maxPropertyCount);
+                    this.recipeListSnapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private record RecipeListSnapshot(List<GTRecipe> recipes, int maxPropertyCount) {
     }
 
     public SoundEvent getSound() {
@@ -1,15 +1,29 @@
 package net.nemezanevem.gregtech.api.recipe;
 
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraftforge.fluids.FluidStack;
 import net.nemezanevem.gregtech.api.util.ItemStackKey;
 
 import javax.annotation.Nonnull;
 import java.lang.ref.WeakReference;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.WeakHashMap;
 
+/**
+ * Pool of canonical {@link ItemStackKey}s and {@link FluidKey}s.
+ * Keys of stacks without NBT are looked up by item or fluid alone, without hashing or allocating,
+ * keys of stacks with NBT are shared weakly and dropped once nothing references them anymore.
+ */
 public class KeySharedStack {
 
     private static final WeakHashMap<ItemStackKey, WeakReference<ItemStackKey>> registeredItemStackKeys = new WeakHashMap<>();
+    // items and fluids are registry singletons that live as long as the game, so their plain keys are kept strongly
+    private static final Map<Item, ItemStackKey> plainItemStackKeys = new IdentityHashMap<>();
+    private static final WeakHashMap<FluidKey, WeakReference<FluidKey>> registeredFluidKeys = new WeakHashMap<>();
+    private static final Map<Fluid, FluidKey> plainFluidKeys = new IdentityHashMap<>();
     public static ItemStackKey EMPTY = new ItemStackKey(ItemStack.EMPTY);
 
     private KeySharedStack() {
@@ -21,9 +35,19 @@ public class KeySharedStack {
             return EMPTY;
         }
 
-        int oldStackSize = itemStack.getCount();
-        itemStack.setCount(1);
+        if (!itemStack.hasTag()) {
+            ItemStackKey plain = plainItemStackKeys.get(itemStack.getItem());
+            if (plain == null) {
+                plain = new ItemStackKey(itemStack);
+                plainItemStackKeys.put(itemStack.getItem(), plain);
+            }
+            // stacks carrying capability data are not equal to the plain stack and fall through to the pool
+            if (ItemStack.tagMatches(plain.getItemStackRaw(), itemStack)) {
+                return plain;
+            }
+        }
 
+        // keys ignore the stack size, so the stack can be used for the lookup as it is
         ItemStackKey search = new ItemStackKey(itemStack, false);
         WeakReference<ItemStackKey> weak = registeredItemStackKeys.get(search);
         ItemStackKey ret = null;
@@ -36,7 +60,33 @@ public class KeySharedStack {
             ret = new ItemStackKey(itemStack);
             registeredItemStackKeys.put(ret, new WeakReference<>(ret));
         }
-        itemStack.setCount(oldStackSize);
+
+        return ret;
+    }
+
+    public static synchronized FluidKey getRegisteredFluid(final @Nonnull FluidStack fluidStack) {
+        if (!fluidStack.hasTag()) {
+            FluidKey plain = plainFluidKeys.get(fluidStack.getFluid());
+            if (plain == null) {
+                plain = new FluidKey(new FluidStack(fluidStack.getFluid(), 1));
+                plainFluidKeys.put(fluidStack.getFluid(), plain);
+            }
+            return plain;
+        }
+
+        FluidKey search = new FluidKey(fluidStack);
+        WeakReference<FluidKey> weak = registeredFluidKeys.get(search);
+        FluidKey ret = null;
+
+        if (weak != null) {
+            ret = weak.get();
+        }
+
+        if (ret == null) {
+            // copy the tag, the canonical key must not change along with the stack it was created from
+            ret = new FluidKey(new FluidStack(fluidStack.getFluid(), 1, fluidStack.getTag().copy()));
+            registeredFluidKeys.put(ret, new WeakReference<>(ret));
+        }
 
         return ret;
     }
@@ -0,0 +1,54 @@
+package net.nemezanevem.gregtech.api.recipe;
+
+import com.google.common.collect.MapMaker;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Deduplicates ids written while syncing recipes.
+ * <p>
+ * All recipes of one packet are written to and read from the same buffer in the same order, so every id is sent as
+ * a string only on its first occurrence in a buffer and as an index into the ids seen so far afterwards.
+ * <p>
+ * Only ids sent as strings go through here, that is ingredient tags and gas collector dimensions.
+ * Items, fluids, recipe types and recipe properties are written by {@link FriendlyByteBuf#writeItem},
+ * {@link FriendlyByteBuf#writeFluidStack} and {@link FriendlyByteBuf#writeRegistryId}, which already send the
+ * numeric network id of the registry entry, a var int no longer than a table index.
+ */
+public final class RecipeNetworkStrings {
+
+    /** tables by buffer identity, dropped together with their buffer */
+    private static final ConcurrentMap<FriendlyByteBuf, Object2IntOpenHashMap<ResourceLocation>> writeTables = new MapMaker().weakKeys().makeMap();
+    private static final ConcurrentMap<FriendlyByteBuf, List<ResourceLocation>> readTables = new MapMaker().weakKeys().makeMap();
+
+    private RecipeNetworkStrings() {
+    }
+
+    public static void write(FriendlyByteBuf buffer, ResourceLocation location) {
+        Object2IntOpenHashMap<ResourceLocation> table = writeTables.computeIfAbsent(buffer, any -> new Object2IntOpenHashMap<>());
+        int index = table.getOrDefault(location, -1);
+        if (index == -1) {
+            buffer.writeVarInt(0);
+            buffer.writeResourceLocation(location);
+            table.put(location, table.size());
+        } else {
+            buffer.writeVarInt(index + 1);
+        }
+    }
+
+    public static ResourceLocation read(FriendlyByteBuf buffer) {
+        List<ResourceLocation> table = readTables.computeIfAbsent(buffer, any -> new ArrayList<>());
+        int index = buffer.readVarInt();
+        if (index == 0) {
+            ResourceLocation location = buffer.readResourceLocation();
+            table.add(location);
+            return location;
+        }
+        return table.get(index - 1);
+    }
+}
@@ -1,5 +1,7 @@
 package net.nemezanevem.gregtech.api.recipe.ingredient;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.gson.*;
 import net.minecraft.core.Registry;
 import net.minecraft.network.FriendlyByteBuf;
@@ -15,31 +17,57 @@ import net.minecraftforge.common.crafting.AbstractIngredient;
 import net.minecraftforge.common.crafting.CraftingHelper;
 import net.minecraftforge.common.crafting.IIngredientSerializer;
 import net.minecraftforge.common.crafting.PartialNBTIngredient;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.registries.ForgeRegistries;
 import net.nemezanevem.gregtech.GregTech;
+import net.nemezanevem.gregtech.api.recipe.RecipeNetworkStrings;
+import net.nemezanevem.gregtech.api.util.ItemStackKey;
 import org.checkerframework.checker.units.qual.C;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Objects;
+import java.util.*;
 import java.util.stream.Stream;
 
+@Mod.EventBusSubscriber(modid = GregTech.MODID)
 public class ExtendedIngredient extends AbstractIngredient {
     public static final ExtendedIngredient EMPTY = new ExtendedIngredient((Value) null, false);
 
+    /**
+     * Pool of ingredients in use, so equal ingredients of different recipes share one instance
+     */
+    private static final Interner<ExtendedIngredient> INTERNER = Interners.newWeakInterner();
+
     private int amount;
     protected final boolean isConsumable;
     private final boolean isTag;
     public final Value value;
 
+    /**
+     * Content of the value compared by equals, computed once so that neither hashing nor equality resolves tags
+     */
+    @Nullable
+    private final Object contentKey;
+    private final int hashCode;
+
+    /**
+     * Incremented on every tag reload, matching item ids built for an older generation are rebuilt
+     */
+    private static volatile int tagGeneration;
+
+    @Nullable
+    private BitSet matchingItemIds;
+    private int matchingItemIdsGeneration;
+
     protected ExtendedIngredient(@Nullable Value pValue, boolean isConsumable) {
         super(Stream.of(pValue));
         this.value = pValue;
         this.isConsumable = isConsumable;
         this.isTag = pValue instanceof TagValue;
+        this.contentKey = getContentKey(pValue);
+        this.hashCode = 31 * Objects.hashCode(contentKey) + Boolean.hashCode(isConsumable);
     }
 
     protected ExtendedIngredient(@Nonnull ItemStack pValue, boolean isConsumable) {
@@ -69,12 +97,72 @@ public class ExtendedIngredient extends AbstractIngredient {
 
     public static ExtendedIngredient fromValue(Value pStream, boolean isConsumable) {
         ExtendedIngredient ingredient = new ExtendedIngredient(pStream, isConsumable);
-        return ingredient.values.length == 0 ? (ExtendedIngredient) EMPTY : ingredient;
+        return ingredient.values.length == 0 ? (ExtendedIngredient) EMPTY : intern(ingredient);
     }
 
     public static ExtendedIngredient fromValue(TagKey<Item> tagKey, boolean isConsumable) {
         ExtendedIngredient ingredient = new ExtendedIngredient(new TagValue(tagKey), isConsumable);
-        return ingredient.values.length == 0 ? EMPTY : ingredient;
+        return ingredient.values.length == 0 ? EMPTY : intern(ingredient);
+    }
+
+    /**
+     * @return the pooled instance equal to the ingredient
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends ExtendedIngredient> T intern(T ingredient) {
+        return (T) INTERNER.intern(ingredient);
+    }
+
+    @Nullable
+    static Object getContentKey(@Nullable Value value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof KeyedValue keyedValue) {
+            return keyedValue.getContentKey();
+        } else if (value instanceof TagValue tagValue) {
+            return tagValue.tag;
+        } else if (value instanceof ItemValue) {
+            Iterator<ItemStack> items = value.getItems().iterator();
+            if (!items.hasNext()) return null;
+            ItemStack stack = items.next();
+            return Arrays.asList(new ItemStackKey(stack), stack.getCount());
+        }
+        return value;
+    }
+
+    @Override
+    public boolean test(@Nullable ItemStack stack) {
+        if (stack == null) {
+            return false;
+        }
+        if (value == null) {
+            return stack.isEmpty();
+        }
+        BitSet itemIds = getMatchingItemIds();
+        // like vanilla, an ingredient matching no items matches empty stacks
+        return itemIds.isEmpty() ? stack.isEmpty() : itemIds.get(Registry.ITEM.getId(stack.getItem()));
+    }
+
+    /**
+     * @return registry ids of the items matched by this ingredient, resolved lazily from the current tags
+     */
+    private BitSet getMatchingItemIds() {
+        BitSet itemIds = this.matchingItemIds;
+        int generation = tagGeneration;
+        if (itemIds == null || matchingItemIdsGeneration != generation) {
+            itemIds = new BitSet();
+            for (ItemStack stack : value.getItems()) {
+                itemIds.set(Registry.ITEM.getId(stack.getItem()));
+            }
+            this.matchingItemIdsGeneration = generation;
+            this.matchingItemIds = itemIds;
+        }
+        return itemIds;
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        tagGeneration++;
     }
 
     @Override
@@ -116,13 +204,14 @@ public class ExtendedIngredient extends AbstractIngredient {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (!(o instanceof ExtendedIngredient that)) return false;
-        return isConsumable == that.isConsumable && isTag == that.isTag && ItemStack.matches(this.getItems()[0], that.getItems()[0]);
+        if (o == null || getClass() != o.getClass()) return false;
+        ExtendedIngredient that = (ExtendedIngredient) o;
+        return hashCode == that.hashCode && isConsumable == that.isConsumable && Objects.equals(contentKey, that.contentKey);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(isConsumable, isTag);
+        return hashCode;
     }
 
     protected ExtendedIngredient copy() {
@@ -130,12 +219,23 @@ public class ExtendedIngredient extends AbstractIngredient {
     }
 
     public ExtendedIngredient copyWithAmount(int amount) {
-        return new ExtendedIngredient(new CountValue(this.value, amount), isConsumable);
+        return intern(new ExtendedIngredient(new CountValue(this.value, amount), isConsumable));
+    }
+
+    /**
+     * Value providing the content compared by {@link ExtendedIngredient#equals(Object)}
+     */
+    public interface KeyedValue extends Ingredient.Value {
+
+        /**
+         * @return an immutable object with content based equals and hashCode
+         */
+        Object getContentKey();
     }
 
-    public static class CountValue implements Ingredient.Value {
+    public static class CountValue implements KeyedValue {
         private final Value value;
-        private int count;
+        private final int count;
         public CountValue(Value pItem, int count) {
             this.value = pItem;
             this.count = count;
@@ -149,6 +249,11 @@ public class ExtendedIngredient extends AbstractIngredient {
             return count;
         }
 
+        @Override
+        public Object getContentKey() {
+            return Arrays.asList(ExtendedIngredient.getContentKey(value), count);
+        }
+
         public JsonObject serialize() {
             JsonObject jsonobject = this.value.serialize();
             jsonobject.addProperty("type", GregTech.MODID + ":" + "count");
@@ -193,13 +298,13 @@ public class ExtendedIngredient extends AbstractIngredient {
 
             boolean isConsumable = json.get("isConsumable").getAsBoolean();
 
-            return new ExtendedIngredient(value == null ? new TagValue(tag) : value, isConsumable);
+            return intern(new ExtendedIngredient(value == null ? new TagValue(tag) : value, isConsumable));
         }
 
         @Override
         public ExtendedIngredient parse(FriendlyByteBuf buffer) {
             if(buffer.readBoolean()) {
-                return ExtendedIngredient.fromValue(ForgeRegistries.ITEMS.tags().createTagKey(buffer.readResourceLocation()), buffer.readBoolean());
+                return ExtendedIngredient.fromValue(ForgeRegistries.ITEMS.tags().createTagKey(RecipeNetworkStrings.read(buffer)), buffer.readBoolean());
             } else {
                 return ExtendedIngredient.fromValue(new Ingredient.ItemValue(buffer.readItem()), buffer.readBoolean());
             }
@@ -209,7 +314,7 @@ public class ExtendedIngredient extends AbstractIngredient {
         public void write(FriendlyByteBuf buffer, ExtendedIngredient ingredient) {
             if(ingredient.isTag) {
                 buffer.writeBoolean(true);
-                buffer.writeResourceLocation(ingredient.getTag().location());
+                RecipeNetworkStrings.write(buffer, ingredient.getTag().location());
             } else {
                 buffer.writeBoolean(false);
                 buffer.writeItem(ingredient.getItems()[0]);
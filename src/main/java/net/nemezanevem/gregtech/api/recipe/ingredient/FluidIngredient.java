@@ -15,6 +15,7 @@ import net.minecraftforge.common.ForgeMod;
 import net.minecraftforge.common.crafting.IIngredientSerializer;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.registries.ForgeRegistries;
+import net.nemezanevem.gregtech.api.recipe.FluidKey;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
@@ -112,7 +113,7 @@ public class FluidIngredient extends ExtendedIngredient {
 
     public static FluidIngredient fromValuesFluid(boolean isConsumable, FluidIngredient.Value value) {
         FluidIngredient ingredient = new FluidIngredient(value, isConsumable);
-        return ingredient.value.isEmpty() ? EMPTY : ingredient;
+        return ingredient.value.isEmpty() ? EMPTY : intern(ingredient);
     }
 
     public static FluidIngredient ofFluid() {
@@ -208,6 +209,11 @@ public class FluidIngredient extends ExtendedIngredient {
             return Collections.singleton(this.fluid);
         }
 
+        @Override
+        public Object getContentKey() {
+            return Arrays.asList(new FluidKey(fluid), fluid.getAmount());
+        }
+
         @Override
         public Collection<ItemStack> getItems() {
             return Collections.emptyList();
@@ -238,6 +244,11 @@ public class FluidIngredient extends ExtendedIngredient {
             return list;
         }
 
+        @Override
+        public Object getContentKey() {
+            return Arrays.asList(tag, amount);
+        }
+
         @Override
         public Collection<ItemStack> getItems() {
             return Collections.emptyList();
@@ -250,7 +261,7 @@ public class FluidIngredient extends ExtendedIngredient {
         }
     }
 
-    public interface Value extends Ingredient.Value {
+    public interface Value extends ExtendedIngredient.KeyedValue {
         Collection<FluidStack> getFluids();
 
         JsonObject serialize();
@@ -74,8 +74,12 @@ public class IntCircuitIngredient extends ExtendedIngredient {
 
     @Override
     public boolean test(@Nullable ItemStack itemStack) {
-        return itemStack != null && itemStack.is(MetaItems.INTEGRATED_CIRCUIT.get()) &&
-                matchingConfigurations == getCircuitConfiguration(itemStack);
+        if (itemStack == null || !itemStack.is(MetaItems.INTEGRATED_CIRCUIT.get())) {
+            return false;
+        }
+        // circuits without a tag are configuration 0, see isIntegratedCircuit
+        CompoundTag tagCompound = itemStack.getTag();
+        return matchingConfigurations == (tagCompound == null ? 0 : tagCompound.getInt("Configuration"));
     }
 
 }
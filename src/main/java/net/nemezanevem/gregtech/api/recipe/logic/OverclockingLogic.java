@@ -13,6 +13,18 @@ public class OverclockingLogic {
     public static final double STANDARD_OVERCLOCK_DURATION_DIVISOR = ConfigHolder.machines.overclockDivisor;
     public static final double PERFECT_OVERCLOCK_DURATION_DIVISOR = 4.0;
 
+    /** voltages up to this are exactly representable as double, so the closed form matches the iterative logic */
+    private static final long MAX_EXACT_VOLTAGE = 1L << 53;
+    private static final int COIL_DISCOUNT_TABLE_SIZE = 64;
+    /** 0.95^n energy multipliers for heating coil discounts, indexed by the amount of 900k steps */
+    private static final double[] COIL_EU_MULTIPLIERS = new double[COIL_DISCOUNT_TABLE_SIZE];
+
+    static {
+        for (int i = 0; i < COIL_DISCOUNT_TABLE_SIZE; i++) {
+            COIL_EU_MULTIPLIERS[i] = Math.min(1, Math.pow(0.95, i));
+        }
+    }
+
     /**
      * applies standard logic for overclocking, where each overclock modifies energy and duration
      *
@@ -26,6 +38,48 @@ public class OverclockingLogic {
      */
     @Nonnull
     public static int[] standardOverclockingLogic(int recipeEUt, long maxVoltage, int recipeDuration, int numberOfOCs, double durationDivisor, double voltageMultiplier) {
+        int voltageShift = getPowerOfTwoExponent(voltageMultiplier);
+        int durationShift = getPowerOfTwoExponent(durationDivisor);
+        if (voltageShift > 0 && durationShift > 0 && maxVoltage <= MAX_EXACT_VOLTAGE) {
+            return powerOfTwoOverclockingLogic(recipeEUt, maxVoltage, recipeDuration, numberOfOCs, durationShift, voltageShift);
+        }
+        return iterativeOverclockingLogic(recipeEUt, maxVoltage, recipeDuration, numberOfOCs, durationDivisor, voltageMultiplier);
+    }
+
+    /**
+     * Closed form of {@link #iterativeOverclockingLogic(int, long, int, int, double, double)} for multipliers and divisors which are powers of two.
+     * Multiplying and dividing doubles by powers of two is exact, so the result is the same as applying the overclocks one by one.
+     */
+    @Nonnull
+    private static int[] powerOfTwoOverclockingLogic(int recipeEUt, long maxVoltage, int recipeDuration, int numberOfOCs, int durationShift, int voltageShift) {
+        int overclocks = Math.max(0, numberOfOCs);
+        if (recipeEUt > 0) {
+            // largest k with recipeEUt * 2^(k * voltageShift) <= maxVoltage
+            long voltageRatio = maxVoltage / recipeEUt;
+            overclocks = Math.min(overclocks, voltageRatio <= 0 ? 0 : floorLog2(voltageRatio) / voltageShift);
+        }
+        // largest k with recipeDuration / 2^(k * durationShift) >= 1
+        overclocks = Math.min(overclocks, recipeDuration < 1 ? 0 : floorLog2(recipeDuration) / durationShift);
+
+        double resultVoltage = Math.scalb((double) recipeEUt, overclocks * voltageShift);
+        double resultDuration = Math.scalb((double) recipeDuration, -overclocks * durationShift);
+        return new int[]{(int) resultVoltage, (int) resultDuration};
+    }
+
+    /**
+     * @return the exponent if the value is a power of two of at least 2, otherwise -1
+     */
+    private static int getPowerOfTwoExponent(double value) {
+        int exponent = Math.getExponent(value);
+        return exponent >= 1 && value == Math.scalb(1.0, exponent) ? exponent : -1;
+    }
+
+    private static int floorLog2(long value) {
+        return 63 - Long.numberOfLeadingZeros(value);
+    }
+
+    @Nonnull
+    private static int[] iterativeOverclockingLogic(int recipeEUt, long maxVoltage, int recipeDuration, int numberOfOCs, double durationDivisor, double voltageMultiplier) {
         double resultDuration = recipeDuration;
         double resultVoltage = recipeEUt;
 
@@ -57,7 +111,7 @@ public class OverclockingLogic {
         int amountPerfectOC = amountEUDiscount / 2;
 
         // apply a multiplicative 95% energy multiplier for every 900k over recipe temperature
-        recipeEUt *= Math.min(1, Math.pow(0.95, amountEUDiscount));
+        recipeEUt *= amountEUDiscount < COIL_DISCOUNT_TABLE_SIZE ? COIL_EU_MULTIPLIERS[amountEUDiscount] : Math.min(1, Math.pow(0.95, amountEUDiscount));
 
         // perfect overclock for every 1800k over recipe temperature
         if (amountPerfectOC > 0) {
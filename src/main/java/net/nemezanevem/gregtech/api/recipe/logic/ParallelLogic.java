@@ -11,6 +11,7 @@ import net.nemezanevem.gregtech.api.capability.IMultipleTankHandler;
 import net.nemezanevem.gregtech.api.recipe.FluidKey;
 import net.nemezanevem.gregtech.api.recipe.GTRecipe;
 import net.nemezanevem.gregtech.api.recipe.GTRecipeType;
+import net.nemezanevem.gregtech.api.recipe.KeySharedStack;
 import net.nemezanevem.gregtech.api.recipe.ingredient.ExtendedIngredient;
 import net.nemezanevem.gregtech.api.recipe.ingredient.FluidIngredient;
 import net.nemezanevem.gregtech.api.util.GTHashMaps;
@@ -368,12 +369,11 @@ public abstract class ParallelLogic {
         Map<FluidKey, Integer> notConsumableMap = new HashMap<>();
         for (FluidIngredient fluidInput : recipe.getFluidInputs()) {
             int fluidAmount = fluidInput.getAmount();
+            FluidKey fluidKey = KeySharedStack.getRegisteredFluid(fluidInput.getFluids()[0]);
             if (!fluidInput.isConsumable()) {
-                notConsumableMap.computeIfPresent(new FluidKey(fluidInput.getFluids()[0]), (k, v) -> v + fluidAmount);
-                notConsumableMap.putIfAbsent(new FluidKey(fluidInput.getFluids()[0]), fluidAmount);
+                notConsumableMap.merge(fluidKey, fluidAmount, Integer::sum);
             } else {
-                fluidCountMap.computeIfPresent(new FluidKey(fluidInput.getFluids()[0]), (k, v) -> v + fluidAmount);
-                fluidCountMap.putIfAbsent(new FluidKey(fluidInput.getFluids()[0]), fluidAmount);
+                fluidCountMap.merge(fluidKey, fluidAmount, Integer::sum);
             }
         }
 
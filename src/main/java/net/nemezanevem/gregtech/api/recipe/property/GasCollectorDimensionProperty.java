@@ -15,6 +15,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraftforge.fml.loading.FMLLoader;
+import net.nemezanevem.gregtech.api.recipe.RecipeNetworkStrings;
 
 import java.util.Locale;
 import java.util.Map;
@@ -48,7 +49,7 @@ public class GasCollectorDimensionProperty extends RecipeProperty<DimensionType[
         buffer.writeVarInt(real.length);
         for (DimensionType type : real) {
             var loc = getFromCache(type);
-            buffer.writeResourceLocation(loc);
+            RecipeNetworkStrings.write(buffer, loc);
         }
     }
 
@@ -58,7 +59,7 @@ public class GasCollectorDimensionProperty extends RecipeProperty<DimensionType[
         int length = buffer.readVarInt();
         DimensionType[] types = new DimensionType[length];
         for(int i = 0; i < length; ++i) {
-            types[i] = registry.get(buffer.readResourceLocation());
+            types[i] = registry.get(RecipeNetworkStrings.read(buffer));
         }
         return types;
     }
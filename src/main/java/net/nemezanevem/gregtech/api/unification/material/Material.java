@@ -128,11 +128,17 @@ public class Material implements Comparable<Material> {
     }
 
     public boolean hasFlags(MaterialFlag... flags) {
-        return Arrays.stream(flags).allMatch(this::hasFlag);
+        for (MaterialFlag flag : flags) {
+            if (!hasFlag(flag)) return false;
+        }
+        return true;
     }
 
     public boolean hasAnyOfFlags(MaterialFlag... flags) {
-        return Arrays.stream(flags).anyMatch(this::hasFlag);
+        for (MaterialFlag flag : flags) {
+            if (hasFlag(flag)) return true;
+        }
+        return false;
     }
 
     protected void calculateDecompositionType() {
@@ -2,36 +2,41 @@ package net.nemezanevem.gregtech.api.unification.material;
 
 import net.nemezanevem.gregtech.api.unification.material.properties.info.MaterialFlag;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
+/**
+ * Flags of a material, stored as a bit set indexed by {@link MaterialFlag#ordinal()}
+ */
 public class MaterialFlags {
-    private final Set<MaterialFlag> flags = new HashSet<>();
+    private final BitSet flags = new BitSet();
 
     public MaterialFlags addFlags(MaterialFlag... flags) {
-        this.flags.addAll(Arrays.stream(flags).toList());
+        for (MaterialFlag flag : flags) {
+            this.flags.set(flag.ordinal());
+        }
         return this;
     }
 
     public void verify(Material material) {
-        flags.addAll(flags.stream()
-                .map(f -> f.verifyFlag(material))
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet()));
+        List<MaterialFlag> dependencies = new ArrayList<>();
+        for (int i = flags.nextSetBit(0); i >= 0; i = flags.nextSetBit(i + 1)) {
+            dependencies.addAll(MaterialFlag.byOrdinal(i).verifyFlag(material));
+        }
+        dependencies.forEach(flag -> flags.set(flag.ordinal()));
     }
 
     public boolean hasFlag(MaterialFlag flag) {
-        return flags.contains(flag);
+        return flags.get(flag.ordinal());
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        flags.forEach(f -> sb.append(f.toString()).append("\n"));
+        for (int i = flags.nextSetBit(0); i >= 0; i = flags.nextSetBit(i + 1)) {
+            sb.append(MaterialFlag.byOrdinal(i).toString()).append("\n");
+        }
         return sb.toString();
     }
 
@@ -35,9 +35,12 @@ public class TagUnifier {
     private static final Map<String, MarkerMaterial> markerMaterialRegistry = new Object2ObjectOpenHashMap<>();
     private static final Map<Item, ItemMaterialInfo> materialUnificationInfo = new Object2ObjectOpenHashMap<>();
     private static final Map<Item, UnificationEntry> stackUnificationInfo = new Object2ObjectOpenHashMap<>();
-    private static final Map<UnificationEntry, ArrayList<Item>> stackUnificationItems = new Object2ObjectOpenHashMap<>();
+    private static final Map<UnificationEntry, List<Item>> stackUnificationItems = new Object2ObjectOpenHashMap<>();
     private static final Map<Item, Set<String>> stackTagName = new Object2ObjectOpenHashMap<>();
     private static final Map<String, List<Item>> oreDictNameStacks = new Object2ObjectOpenHashMap<>();
+    /** whether the lists above are sorted and immutable */
+    private static boolean frozen = false;
+    private static boolean eventHandlerRegistered = false;
 
     @Nullable
     private static Comparator<Item> stackComparator;
@@ -85,24 +88,93 @@ public class TagUnifier {
         //ForgeRegistries.ITEMS.tags()..registerOre(tag, item);
     }
 
+    /**
+     * Builds the unification indexes from all item tags.
+     * Entries are first collected unsorted, then every list is sorted once and frozen.
+     * Sorting is stable, so the result is the same as sorting after every single insertion.
+     * Calling this again, e.g. on tag reload, rebuilds the indexes from scratch.
+     */
     public static void init() {
+        frozen = false;
+        stackTagName.clear();
+        oreDictNameStacks.clear();
+        stackUnificationItems.clear();
+        stackUnificationInfo.clear();
         for (TagKey<Item> registeredTagName : ForgeRegistries.ITEMS.tags().getTagNames().toList()) {
-            List<Item> theseOres = ForgeRegistries.ITEMS.tags().getTag(registeredTagName).stream().toList();
-            for (Item item : theseOres) {
-                onItemRegistration(registeredTagName, item);
+            String oreName = registeredTagName.location().toString();
+            UnificationEntry unificationEntry = resolveUnificationEntry(oreName);
+            for (Item item : ForgeRegistries.ITEMS.tags().getTag(registeredTagName)) {
+                collect(oreName, unificationEntry, item);
             }
         }
-        MinecraftForge.EVENT_BUS.register(TagUnifier.class);
+        freeze();
+        if (!eventHandlerRegistered) {
+            MinecraftForge.EVENT_BUS.register(TagUnifier.class);
+            eventHandlerRegistered = true;
+        }
     }
 
+    /**
+     * Registers a single item of a tag after {@link #init()}, keeping the indexes sorted
+     */
     public static void onItemRegistration(TagKey<Item> tagKey, Item item) {
         String oreName = tagKey.location().toString();
+        UnificationEntry unificationEntry = resolveUnificationEntry(oreName);
+        if (!frozen) {
+            collect(oreName, unificationEntry, item);
+            return;
+        }
+        stackTagName.computeIfAbsent(item, k -> new HashSet<>()).add(oreName);
+        oreDictNameStacks.put(oreName, insertSorted(oreDictNameStacks.get(oreName), item, getItemStackComparator()));
+        if (unificationEntry != null) {
+            stackUnificationItems.put(unificationEntry, insertSorted(stackUnificationItems.get(unificationEntry), item, getSimpleItemStackComparator()));
+            if (!unificationEntry.tagPrefix.isMarkerPrefix()) {
+                stackUnificationInfo.put(item, unificationEntry);
+            }
+            unificationEntry.tagPrefix.processTagRegistration(unificationEntry.material);
+        }
+    }
+
+    private static void collect(String oreName, @Nullable UnificationEntry unificationEntry, Item item) {
         //cache this registration by name
         stackTagName.computeIfAbsent(item, k -> new HashSet<>()).add(oreName);
-        List<Item> itemStackListForOreDictName = oreDictNameStacks.computeIfAbsent(oreName, k -> new ArrayList<>());
-        addAndSort(itemStackListForOreDictName, item, getItemStackComparator());
+        oreDictNameStacks.computeIfAbsent(oreName, k -> new ArrayList<>()).add(item);
+        if (unificationEntry != null) {
+            stackUnificationItems.computeIfAbsent(unificationEntry, p -> new ArrayList<>()).add(item);
+            if (!unificationEntry.tagPrefix.isMarkerPrefix()) {
+                stackUnificationInfo.put(item, unificationEntry);
+            }
+            unificationEntry.tagPrefix.processTagRegistration(unificationEntry.material);
+        }
+    }
 
-        //and try to transform registration name into TagPrefix + Material pair
+    private static void freeze() {
+        Comparator<Item> itemStackComparator = getItemStackComparator();
+        oreDictNameStacks.replaceAll((name, items) -> sortedCopy(items, itemStackComparator));
+        Comparator<Item> simpleItemStackComparator = getSimpleItemStackComparator();
+        stackUnificationItems.replaceAll((entry, items) -> sortedCopy(items, simpleItemStackComparator));
+        frozen = true;
+    }
+
+    private static List<Item> sortedCopy(List<Item> items, Comparator<Item> comparator) {
+        List<Item> sorted = new ArrayList<>(items);
+        sorted.sort(comparator);
+        return Collections.unmodifiableList(sorted);
+    }
+
+    private static List<Item> insertSorted(@Nullable List<Item> items, Item item, Comparator<Item> comparator) {
+        List<Item> result = items == null ? new ArrayList<>() : new ArrayList<>(items);
+        result.add(item);
+        return sortedCopy(result, comparator);
+    }
+
+    /**
+     * Transforms a tag name into a TagPrefix + Material pair
+     *
+     * @return the unification entry of the tag, or null if the tag does not describe one
+     */
+    @Nullable
+    private static UnificationEntry resolveUnificationEntry(String oreName) {
         TagPrefix tagPrefix = TagPrefix.getPrefix(oreName);
         Material material = null;
         if (tagPrefix == null) {
@@ -142,17 +214,10 @@ public class TagUnifier {
             }
         }
 
-        //finally register item
         if (tagPrefix != null && (material != null || tagPrefix.isSelfReferencing)) {
-            UnificationEntry unificationEntry = new UnificationEntry(tagPrefix, material);
-            ArrayList<Item> itemListForUnifiedEntry = stackUnificationItems.computeIfAbsent(unificationEntry, p -> new ArrayList<>());
-            addAndSort(itemListForUnifiedEntry, item, getSimpleItemStackComparator());
-
-            if (!unificationEntry.tagPrefix.isMarkerPrefix()) {
-                stackUnificationInfo.put(item, unificationEntry);
-            }
-            tagPrefix.processTagRegistration(material);
+            return new UnificationEntry(tagPrefix, material);
         }
+        return null;
     }
 
     public static Set<String> getTagNames(Item itemStack) {
@@ -162,7 +227,7 @@ public class TagUnifier {
     }
 
     public static List<Item> getAllWithTagName(String tagName) {
-        return new ArrayList<>(oreDictNameStacks.get(tagName));
+        return oreDictNameStacks.getOrDefault(tagName, Collections.emptyList());
     }
 
     @Nullable
@@ -208,14 +273,14 @@ public class TagUnifier {
         UnificationEntry unificationEntry = stackUnificationInfo.get(item);
         if (unificationEntry == null || !stackUnificationItems.containsKey(unificationEntry) || !unificationEntry.tagPrefix.isUnificationEnabled)
             return item;
-        ArrayList<Item> keys = stackUnificationItems.get(unificationEntry);
+        List<Item> keys = stackUnificationItems.get(unificationEntry);
         return keys.size() > 0 ? keys.get(0) : item;
     }
 
     public static Item get(UnificationEntry unificationEntry) {
         if (!stackUnificationItems.containsKey(unificationEntry))
             return null;
-        ArrayList<Item> keys = stackUnificationItems.get(unificationEntry);
+        List<Item> keys = stackUnificationItems.get(unificationEntry);
         return keys.size() > 0 ? keys.get(0) : null;
     }
 
@@ -223,7 +288,7 @@ public class TagUnifier {
         UnificationEntry unificationEntry = new UnificationEntry(tagPrefix, material);
         if (!stackUnificationItems.containsKey(unificationEntry))
             return null;
-        ArrayList<Item> keys = stackUnificationItems.get(unificationEntry);
+        List<Item> keys = stackUnificationItems.get(unificationEntry);
         return keys.size() > 0 ? keys.get(0) : null;
     }
 
@@ -240,7 +305,7 @@ public class TagUnifier {
         UnificationEntry unificationEntry = new UnificationEntry(orePrefix, material);
         if (!stackUnificationItems.containsKey(unificationEntry))
             return ItemStack.EMPTY;
-        ArrayList<Item> keys = stackUnificationItems.get(unificationEntry);
+        List<Item> keys = stackUnificationItems.get(unificationEntry);
         return keys.size() > 0 ? new ItemStack(keys.get(0), stackSize) : ItemStack.EMPTY;
     }
 
@@ -259,8 +324,7 @@ public class TagUnifier {
     public static List<Item> getAll(UnificationEntry unificationEntry) {
         if (!stackUnificationItems.containsKey(unificationEntry))
             return Collections.emptyList();
-        ArrayList<Item> keys = stackUnificationItems.get(unificationEntry);
-        return new ArrayList<>(keys);
+        return stackUnificationItems.get(unificationEntry);
     }
 
     public static Item getDust(Material material, long materialAmount) {
@@ -317,11 +381,4 @@ public class TagUnifier {
         }
         return null;
     }
-
-    synchronized private static <T> void addAndSort(List<T> list, T itemToAdd, Comparator<T> comparator) {
-        list.add(itemToAdd);
-
-        if (list.size() > 1)
-            list.sort(comparator);
-    }
 }
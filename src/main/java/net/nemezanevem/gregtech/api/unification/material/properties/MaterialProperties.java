@@ -18,37 +18,41 @@ public class MaterialProperties {
         baseTypes.add(baseType);
     }
 
-    private final Map<PropertyKey<? extends IMaterialProperty<?>>, IMaterialProperty<?>> propertyMap;
+    /** properties and their keys, indexed by {@link PropertyKey#ordinal()} */
+    private IMaterialProperty<?>[] properties = new IMaterialProperty<?>[8];
+    private PropertyKey<?>[] keys = new PropertyKey<?>[8];
+    private int size;
     private Material material;
 
     public MaterialProperties() {
-        propertyMap = new HashMap<>();
     }
 
     public boolean isEmpty() {
-        return propertyMap.isEmpty();
+        return size == 0;
     }
 
     public <T extends IMaterialProperty<T>> T getProperty(PropertyKey<T> key) {
-        return key.cast(propertyMap.get(key));
+        int ordinal = key.ordinal();
+        return ordinal < properties.length ? key.cast(properties[ordinal]) : null;
     }
 
     public <T extends IMaterialProperty<T>> boolean hasProperty(PropertyKey<T> key) {
-        return propertyMap.get(key) != null;
+        int ordinal = key.ordinal();
+        return ordinal < properties.length && properties[ordinal] != null;
     }
 
     public <T extends IMaterialProperty<T>> void setProperty(PropertyKey<T> key, IMaterialProperty<T> value) {
         if (value == null) throw new IllegalArgumentException("Material Property must not be null!");
         if (hasProperty(key))
             throw new IllegalArgumentException("Material Property " + key.toString() + " already registered!");
-        propertyMap.put(key, value);
-        propertyMap.remove(GtMaterialProperties.EMPTY.get());
+        put(key, value);
+        remove(GtMaterialProperties.EMPTY.get());
     }
 
     public <T extends IMaterialProperty<T>> void ensureSet(PropertyKey<T> key, boolean verify) {
         if (!hasProperty(key)) {
-            propertyMap.put(key, key.constructDefault());
-            propertyMap.remove(GtMaterialProperties.EMPTY.get());
+            put(key, key.constructDefault());
+            remove(GtMaterialProperties.EMPTY.get());
             if (verify) verify();
         }
     }
@@ -60,20 +64,52 @@ public class MaterialProperties {
     public void verify() {
         List<IMaterialProperty<?>> oldList;
         do {
-            oldList = new ArrayList<>(propertyMap.values());
+            oldList = new ArrayList<>(size);
+            for (IMaterialProperty<?> property : properties) {
+                if (property != null) oldList.add(property);
+            }
             oldList.forEach(p -> p.verifyProperty(this));
-        } while (oldList.size() != propertyMap.size());
-
-        if (propertyMap.keySet().stream().noneMatch(baseTypes::contains)) {
-            if (propertyMap.isEmpty()) {
+        } while (oldList.size() != size);
+
+        boolean hasBaseType = false;
+        for (PropertyKey<?> key : keys) {
+            if (key != null && baseTypes.contains(key)) {
+                hasBaseType = true;
+                break;
+            }
+        }
+        if (!hasBaseType) {
+            if (isEmpty()) {
                 /*if (ConfigHolder.misc.debug) {
                     Gregtech.LOGGER.debug("Creating empty placeholder Material {}", material);
                 }*/
-                propertyMap.put(GtMaterialProperties.EMPTY.get(), GtMaterialProperties.EMPTY.get().constructDefault());
+                put(GtMaterialProperties.EMPTY.get(), GtMaterialProperties.EMPTY.get().constructDefault());
             } else throw new IllegalArgumentException("Material must have at least one of: " + baseTypes + " specified!");
         }
     }
 
+    private void put(PropertyKey<?> key, IMaterialProperty<?> value) {
+        if (value == null) return;
+        int ordinal = key.ordinal();
+        if (ordinal >= properties.length) {
+            int length = Math.max(ordinal + 1, properties.length * 2);
+            this.properties = Arrays.copyOf(properties, length);
+            this.keys = Arrays.copyOf(keys, length);
+        }
+        if (properties[ordinal] == null) size++;
+        properties[ordinal] = value;
+        keys[ordinal] = key;
+    }
+
+    private void remove(PropertyKey<?> key) {
+        int ordinal = key.ordinal();
+        if (ordinal < properties.length && properties[ordinal] != null) {
+            properties[ordinal] = null;
+            keys[ordinal] = null;
+            size--;
+        }
+    }
+
     public void setMaterial(Material material) {
         this.material = material;
     }
@@ -85,7 +121,9 @@ public class MaterialProperties {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        propertyMap.forEach((k, v) -> sb.append(k.toString()).append("\n"));
+        for (PropertyKey<?> key : keys) {
+            if (key != null) sb.append(key.toString()).append("\n");
+        }
         return sb.toString();
     }
 }
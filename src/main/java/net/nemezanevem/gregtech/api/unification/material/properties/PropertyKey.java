@@ -2,12 +2,25 @@ package net.nemezanevem.gregtech.api.unification.material.properties;
 
 import net.nemezanevem.gregtech.api.util.Util;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class PropertyKey<T extends IMaterialProperty<T>> {
 
+    private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger();
+
     private final Class<T> type;
+    private final int ordinal;
 
     public PropertyKey(Class<T> type) {
         this.type = type;
+        this.ordinal = NEXT_ORDINAL.getAndIncrement();
+    }
+
+    /**
+     * @return dense index of this key, assigned on creation and used to index {@link MaterialProperties}
+     */
+    public int ordinal() {
+        return ordinal;
     }
 
     protected T constructDefault() {
@@ -11,15 +11,31 @@ import java.util.stream.Collectors;
 
 public class MaterialFlag {
 
-    private static final Set<MaterialFlag> FLAG_REGISTRY = new HashSet<>();
+    /** all flags, indexed by {@link #ordinal()} */
+    private static final List<MaterialFlag> FLAG_REGISTRY = new ArrayList<>();
 
     private final Set<MaterialFlag> requiredFlags;
     private final Set<PropertyKey<?>> requiredProperties;
+    private final int ordinal;
 
     private MaterialFlag(Set<MaterialFlag> requiredFlags, Set<PropertyKey<?>> requiredProperties) {
         this.requiredFlags = requiredFlags;
         this.requiredProperties = requiredProperties;
-        FLAG_REGISTRY.add(this);
+        synchronized (FLAG_REGISTRY) {
+            this.ordinal = FLAG_REGISTRY.size();
+            FLAG_REGISTRY.add(this);
+        }
+    }
+
+    /**
+     * @return dense index of this flag, assigned on creation
+     */
+    public int ordinal() {
+        return ordinal;
+    }
+
+    public static MaterialFlag byOrdinal(int ordinal) {
+        return FLAG_REGISTRY.get(ordinal);
     }
 
     @Override
@@ -71,7 +71,7 @@ public class GTHashMaps {
         for (int i = 0; i < fluidInputs.getTanks(); i++) {
             FluidStack fluidStack = fluidInputs.getFluidInTank(i);
             if (fluidStack != null && fluidStack.getAmount() > 0) {
-                FluidKey key = new FluidKey(fluidStack);
+                FluidKey key = KeySharedStack.getRegisteredFluid(fluidStack);
                 map.put(key, map.getInt(key) + fluidStack.getAmount());
             }
         }
@@ -92,7 +92,7 @@ public class GTHashMaps {
 
         for (FluidStack fluidStack : fluidInputs) {
             if (fluidStack != null && fluidStack.getAmount() > 0) {
-                FluidKey key = new FluidKey(fluidStack);
+                FluidKey key = KeySharedStack.getRegisteredFluid(fluidStack);
                 map.put(key, map.getInt(key) + fluidStack.getAmount());
             }
         }
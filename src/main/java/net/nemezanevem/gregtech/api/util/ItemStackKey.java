@@ -1,20 +1,22 @@
 package net.nemezanevem.gregtech.api.util;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 
-import java.util.Objects;
-
 /**
  * ItemStackKey implementation intended to be used
  * as a key in hash maps for itemstack comparision reasons
  * Objects of ItemStackKey are equal only if their contained
  * ItemStacks are equal (excluding stack size)
+ * <p>
+ * Canonical instances are handed out by {@link net.nemezanevem.gregtech.api.recipe.KeySharedStack},
+ * which lets hash maps keyed by them resolve most lookups by identity.
  */
 public final class ItemStackKey {
 
     private final ItemStack itemStack;
     private final int maxStackSize;
-    private int hashCode = 0;
+    private final int hashCode;
 
     public ItemStackKey(ItemStack itemStack) {
         this.itemStack = itemStack.copy();
@@ -51,7 +53,9 @@ public final class ItemStackKey {
         if (this == o) return true;
         if (!(o instanceof ItemStackKey)) return false;
         ItemStackKey that = (ItemStackKey) o;
-        return ItemStack.matches(itemStack, that.itemStack) &&
+        // the cached hashes reject most mismatches before the tags are walked
+        return hashCode == that.hashCode &&
+                itemStack.getItem() == that.itemStack.getItem() &&
                 ItemStack.tagMatches(itemStack, that.itemStack);
     }
 
@@ -61,8 +65,8 @@ public final class ItemStackKey {
     }
 
     private int makeHashCode() {
-        return Objects.hash(itemStack.getItem(),
-                itemStack.getTag());
+        CompoundTag tag = itemStack.getTag();
+        return 31 * itemStack.getItem().hashCode() + (tag == null ? 0 : tag.hashCode());
     }
 
     @Override
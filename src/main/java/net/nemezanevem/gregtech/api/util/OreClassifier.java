@@ -0,0 +1,75 @@
+package net.nemezanevem.gregtech.api.util;
+
+import net.minecraft.core.Registry;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.nemezanevem.gregtech.GregTech;
+import net.nemezanevem.gregtech.api.unification.material.TagUnifier;
+import net.nemezanevem.gregtech.api.unification.tag.TagPrefix;
+
+import java.util.BitSet;
+
+/**
+ * Precomputed ore lookup by item and block state registry id.
+ * Rebuilt whenever tags are reloaded, queries are a single bit lookup without allocation.
+ */
+@Mod.EventBusSubscriber(modid = GregTech.MODID)
+public class OreClassifier {
+
+    private static volatile BitSet oreItems;
+    private static volatile BitSet oreBlockStates;
+
+    private OreClassifier() {
+    }
+
+    public static boolean isOre(Item item) {
+        BitSet items = oreItems;
+        if (items == null) {
+            rebuild();
+            items = oreItems;
+        }
+        return items.get(Registry.ITEM.getId(item));
+    }
+
+    public static boolean isOre(BlockState state) {
+        BitSet blockStates = oreBlockStates;
+        if (blockStates == null) {
+            rebuild();
+            blockStates = oreBlockStates;
+        }
+        return blockStates.get(Block.getId(state));
+    }
+
+    public static synchronized void rebuild() {
+        BitSet items = new BitSet();
+        BitSet blockStates = new BitSet();
+        for (Item item : ForgeRegistries.ITEMS) {
+            if (isOrePrefix(TagUnifier.getPrefix(item))) {
+                items.set(Registry.ITEM.getId(item));
+            }
+        }
+        for (Block block : ForgeRegistries.BLOCKS) {
+            if (items.get(Registry.ITEM.getId(block.asItem()))) {
+                for (BlockState state : block.getStateDefinition().getPossibleStates()) {
+                    blockStates.set(Block.getId(state));
+                }
+            }
+        }
+        oreItems = items;
+        oreBlockStates = blockStates;
+    }
+
+    private static boolean isOrePrefix(TagPrefix orePrefix) {
+        return orePrefix != null && orePrefix.name().startsWith("ore");
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        rebuild();
+    }
+}
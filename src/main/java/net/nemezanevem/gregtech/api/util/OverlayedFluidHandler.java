@@ -8,6 +8,7 @@ import net.minecraftforge.fluids.capability.templates.FluidTank;
 import net.nemezanevem.gregtech.api.capability.IMultipleTankHandler;
 import net.nemezanevem.gregtech.api.capability.impl.NotifiableFluidTankFromList;
 import net.nemezanevem.gregtech.api.recipe.FluidKey;
+import net.nemezanevem.gregtech.api.recipe.KeySharedStack;
 
 import javax.annotation.Nonnull;
 import java.util.List;
@@ -148,7 +149,7 @@ public class OverlayedFluidHandler {
         OverlayedTank(IFluidTank property) {
             FluidStack stackToMirror = property.getFluid();
             if (stackToMirror != null) {
-                this.fluidKey = new FluidKey(stackToMirror);
+                this.fluidKey = KeySharedStack.getRegisteredFluid(stackToMirror);
                 this.fluidAmount = stackToMirror.getAmount();
             }
             this.capacity = property.getCapacity();
@@ -4,6 +4,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.nemezanevem.gregtech.GregTech;
@@ -45,6 +46,8 @@ public class TaskScheduler {
     }
 
     public void unload() {
+        tasks.forEach(Task::onUnload);
+        scheduledTasks.forEach(Task::onUnload);
         tasks.clear();
         scheduledTasks.clear();
     }
@@ -60,6 +63,15 @@ public class TaskScheduler {
         }
     }
 
+    /**
+     * Unloads the tasks of all worlds while they can still be modified, the worlds are saved after this event
+     */
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        tasksPerWorld.values().forEach(TaskScheduler::unload);
+        tasksPerWorld.clear();
+    }
+
     @SubscribeEvent
     public static void onWorldTick(TickEvent.LevelTickEvent event) {
         if (!event.level.isClientSide) {
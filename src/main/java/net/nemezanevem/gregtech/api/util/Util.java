@@ -51,11 +51,9 @@ import net.nemezanevem.gregtech.api.registry.material.info.MaterialIconSetRegist
 import net.nemezanevem.gregtech.api.registry.material.properties.MaterialPropertyRegistry;
 import net.nemezanevem.gregtech.api.registry.tileentity.MetaTileEntityRegistry;
 import net.nemezanevem.gregtech.api.unification.material.Material;
-import net.nemezanevem.gregtech.api.unification.material.TagUnifier;
 import net.nemezanevem.gregtech.api.unification.material.properties.PropertyKey;
 import net.nemezanevem.gregtech.api.unification.material.properties.info.MaterialFlag;
 import net.nemezanevem.gregtech.api.unification.material.properties.info.MaterialIconSet;
-import net.nemezanevem.gregtech.api.unification.tag.TagPrefix;
 
 import javax.annotation.Nonnull;
 import java.text.NumberFormat;
@@ -606,8 +604,11 @@ public class Util {
     }
 
     public static boolean isOre(ItemStack item) {
-        TagPrefix orePrefix = TagUnifier.getPrefix(item.getItem());
-        return orePrefix != null && orePrefix.name().startsWith("ore");
+        return OreClassifier.isOre(item.getItem());
+    }
+
+    public static boolean isOre(BlockState state) {
+        return OreClassifier.isOre(state);
     }
 
     public static ResourceLocation getId(Material flag) {
@@ -5,4 +5,10 @@ public interface Task {
 
     boolean run();
 
+    /**
+     * Called instead of further runs when the world of the task is unloaded or the server stops
+     */
+    default void onUnload() {
+    }
+
 }
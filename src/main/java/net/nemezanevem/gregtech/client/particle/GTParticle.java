@@ -14,6 +14,7 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
 
 import java.util.function.Consumer;
 
@@ -36,6 +37,14 @@ public abstract class GTParticle extends SingleQuadParticle {
         return entityIn.getEyePosition(partialTicks).distanceToSqr(x, y, z) <= squareRenderRange;
     }
 
+    /**
+     * @param maxSquareDistance squared distance to the camera over which no particle is rendered, regardless of its render range
+     */
+    public boolean shouldRendered(Vec3 cameraPos, double maxSquareDistance) {
+        double squareDistance = cameraPos.distanceToSqr(x, y, z);
+        return squareDistance <= maxSquareDistance && (squareRenderRange < 0 || squareDistance <= squareRenderRange);
+    }
+
     /**
      * Set the render range, over the range do not render.
      * <P>
@@ -8,9 +8,9 @@ import net.minecraft.client.Camera;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.components.DebugScreenOverlay;
 import net.minecraft.client.particle.Particle;
-import net.minecraft.util.Tuple;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.client.event.RenderGuiOverlayEvent;
 import net.minecraftforge.client.event.RenderLevelStageEvent;
 import net.minecraftforge.client.gui.overlay.VanillaGuiOverlay;
@@ -30,17 +30,25 @@ import java.util.*;
 public class GTParticleManager {
     public final static GTParticleManager INSTANCE = new GTParticleManager();
 
+    /**
+     * Maximum amount of live particles per handler and layer, the oldest ones are removed once it is exceeded
+     */
+    public static final int MAX_PARTICLES_PER_HANDLER = 6000;
+
     private static Level currentWorld = null;
     private static final Minecraft mc = Minecraft.getInstance();
 
+    // queues are kept once created and reused when their handler spawns particles again
     private final Map<IGTParticleHandler, ArrayDeque<GTParticle>> renderQueueBack = new HashMap<>();
     private final Map<IGTParticleHandler, ArrayDeque<GTParticle>> renderQueueFront = new HashMap<>();
-    private final Queue<Tuple<IGTParticleHandler, GTParticle>> newParticleQueue = new ArrayDeque<>();
+    private final Queue<GTParticle> newParticleQueue = new ArrayDeque<>();
+    // particles of the handler currently drawn which passed culling, reused every frame
+    private final List<GTParticle> visibleParticles = new ArrayList<>();
 
     public void addEffect(GTParticle... particles) {
         for (GTParticle particle : particles) {
             if (particle.getGLHandler() != null) {
-                newParticleQueue.add(new Tuple<>(particle.getGLHandler(), particle));
+                newParticleQueue.add(particle);
             }
         }
     }
@@ -48,15 +56,11 @@ public class GTParticleManager {
     public void updateEffects() {
         updateEffectLayer();
         if (!newParticleQueue.isEmpty()) {
-            for (Tuple<IGTParticleHandler, GTParticle> handlerParticle = newParticleQueue.poll(); handlerParticle != null; handlerParticle = newParticleQueue.poll()) {
-                IGTParticleHandler handler = handlerParticle.getA();
-                GTParticle particle = handlerParticle.getB();
+            for (GTParticle particle = newParticleQueue.poll(); particle != null; particle = newParticleQueue.poll()) {
+                IGTParticleHandler handler = particle.getGLHandler();
                 Map<IGTParticleHandler, ArrayDeque<GTParticle>> renderQueue = particle.getRenderRange() > 0 ? renderQueueFront : renderQueueBack;
-                if (!renderQueue.containsKey(handler)) {
-                    renderQueue.put(handler, new ArrayDeque<>());
-                }
-                ArrayDeque<GTParticle> arrayDeque = renderQueue.get(handler);
-                if (arrayDeque.size() > 6000) {
+                ArrayDeque<GTParticle> arrayDeque = renderQueue.computeIfAbsent(handler, h -> new ArrayDeque<>());
+                if (arrayDeque.size() >= MAX_PARTICLES_PER_HANDLER) {
                     arrayDeque.removeFirst().remove();
                 }
                 arrayDeque.add(particle);
@@ -74,28 +78,28 @@ public class GTParticleManager {
     }
 
     private void updateQueue(Map<IGTParticleHandler, ArrayDeque<GTParticle>> renderQueue) {
-        Iterator<Map.Entry<IGTParticleHandler, ArrayDeque<GTParticle>>> entryIterator = renderQueue.entrySet().iterator();
-        while (entryIterator.hasNext()) {
-            Map.Entry<IGTParticleHandler, ArrayDeque<GTParticle>> entry = entryIterator.next();
-            Iterator<GTParticle> iterator = entry.getValue().iterator();
-            while (iterator.hasNext()) {
-                Particle particle = iterator.next();
-                tickParticle(particle);
-                if (!particle.isAlive()) {
-                    iterator.remove();
-                }
-            }
-            if (entry.getValue().isEmpty()) {
-                entryIterator.remove();
+        for (ArrayDeque<GTParticle> particles : renderQueue.values()) {
+            updateParticles(particles);
+        }
+    }
+
+    /**
+     * Ticks every particle of the queue once and drops the dead ones, keeping the order of the survivors.
+     * Survivors are rotated to the back of the queue, which avoids removing from the middle of the deque.
+     */
+    private static void updateParticles(ArrayDeque<GTParticle> particles) {
+        for (int i = particles.size(); i > 0; i--) {
+            GTParticle particle = particles.pollFirst();
+            tickParticle(particle);
+            if (particle.isAlive()) {
+                particles.addLast(particle);
             }
         }
     }
 
     public void clearAllEffects(boolean cleanNewQueue) {
         if (cleanNewQueue) {
-            for (Tuple<IGTParticleHandler, GTParticle> tuple : newParticleQueue) {
-                tuple.getB().remove();
-            }
+            newParticleQueue.forEach(Particle::remove);
             newParticleQueue.clear();
         }
         for (ArrayDeque<GTParticle> particles : renderQueueBack.values()) {
@@ -108,7 +112,7 @@ public class GTParticleManager {
         renderQueueFront.clear();
     }
 
-    private void tickParticle(final Particle particle) {
+    private static void tickParticle(final Particle particle) {
         try {
             particle.tick();
         }
@@ -119,7 +123,7 @@ public class GTParticleManager {
     }
 
     public void renderParticles(Entity entityIn, float partialTicks) {
-        if (renderQueueBack.isEmpty() && renderQueueFront.isEmpty()) return;
+        if (!hasParticles(renderQueueBack) && !hasParticles(renderQueueFront)) return;
         RenderSystem.enableBlend();
         RenderSystem.blendFunc(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA);
         GL11.glAlphaFunc(GL11.GL_GREATER, 0);
@@ -127,34 +131,52 @@ public class GTParticleManager {
         Tesselator tessellator = Tesselator.getInstance();
         RenderSystem.disableColorLogicOp();
 
-        renderGlParticlesInLayer(renderQueueBack, tessellator, entityIn, partialTicks);
+        renderGlParticlesInLayer(renderQueueBack, tessellator, partialTicks);
 
         RenderSystem.depthMask(false);
-        renderGlParticlesInLayer(renderQueueFront, tessellator, entityIn, partialTicks);
+        renderGlParticlesInLayer(renderQueueFront, tessellator, partialTicks);
 
         RenderSystem.depthMask(true);
         RenderSystem.disableBlend();
         GL11.glAlphaFunc(GL11.GL_GREATER, 0.1F);
     }
 
-    private void renderGlParticlesInLayer(Map<IGTParticleHandler, ArrayDeque<GTParticle>> renderQueue, Tesselator tesselator, Entity entityIn, float partialTicks) {
-        for (IGTParticleHandler handler : renderQueue.keySet()) {
-            ArrayDeque<GTParticle> particles = renderQueue.get(handler);
+    private static boolean hasParticles(Map<IGTParticleHandler, ArrayDeque<GTParticle>> renderQueue) {
+        for (ArrayDeque<GTParticle> particles : renderQueue.values()) {
+            if (!particles.isEmpty()) return true;
+        }
+        return false;
+    }
+
+    private void renderGlParticlesInLayer(Map<IGTParticleHandler, ArrayDeque<GTParticle>> renderQueue, Tesselator tesselator, float partialTicks) {
+        Camera camera = mc.gameRenderer.getMainCamera();
+        Vec3 cameraPos = camera.getPosition();
+        double maxDistance = mc.options.getEffectiveRenderDistance() * 16.0;
+        double maxDistanceSq = maxDistance * maxDistance;
+        for (Map.Entry<IGTParticleHandler, ArrayDeque<GTParticle>> entry : renderQueue.entrySet()) {
+            ArrayDeque<GTParticle> particles = entry.getValue();
             if (particles.isEmpty()) continue;
+            // cull before building, so handlers without visible particles do not upload an empty buffer
+            for (GTParticle particle : particles) {
+                if (particle.shouldRendered(cameraPos, maxDistanceSq)) {
+                    visibleParticles.add(particle);
+                }
+            }
+            if (visibleParticles.isEmpty()) continue;
+            IGTParticleHandler handler = entry.getKey();
             VertexConsumer buffer = tesselator.getBuilder();
             handler.preDraw(buffer);
-            for (final GTParticle particle : particles) {
-                if (particle.shouldRendered(entityIn, partialTicks)) {
-                    try {
-                        particle.render(buffer, Minecraft.getInstance().gameRenderer.getMainCamera(), partialTicks);
-                    }
-                    catch (Throwable throwable) {
-                        GregTech.LOGGER.error("particle render error: {}", particle.toString(), throwable);
-                        particle.remove();
-                    }
+            for (GTParticle particle : visibleParticles) {
+                try {
+                    particle.render(buffer, camera, partialTicks);
+                }
+                catch (Throwable throwable) {
+                    GregTech.LOGGER.error("particle render error: {}", particle.toString(), throwable);
+                    particle.remove();
                 }
             }
             handler.postDraw(buffer);
+            visibleParticles.clear();
         }
     }
 
@@ -16,6 +16,8 @@ public class ConfigHolder {
 
         public static ForgeConfigSpec.ConfigValue<String> terminalRootPath;
 
+        public static ForgeConfigSpec.IntValue pictureCacheSize;
+
         builder.comment({"Whether to hook depth texture. Has no effect on performance, but if there is a problem with rendering, try disabling it.", "Default: true"})
         public boolean hookDepthTexture = true;
 
@@ -119,6 +121,10 @@ public class ConfigHolder {
                 .worldRestart()
                 .define("Terminal Root path", "gregtech/terminal");
 
+        ClientConfig.pictureCacheSize = builder.comment("Maximum disk space in MB used to cache pictures downloaded for monitor screens and GUIs",
+                        "Least recently used pictures are removed first", "Default: 128")
+                .defineInRange("Picture Cache Size", 128, 1, 16384);
+
         builder.push("Gui Config");
         ClientConfig.GuiConfig.scrollSpeed = builder.comment("The scrolling speed of widgets", "Default: 13")
                     .worldRestart()
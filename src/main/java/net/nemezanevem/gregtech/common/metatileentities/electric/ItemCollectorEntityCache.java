@@ -0,0 +1,71 @@
+package net.nemezanevem.gregtech.common.metatileentities.electric;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares the per-tick {@link ItemEntity} query between item collectors standing in the same chunk.
+ * The first collector of a chunk queries the world, every other collector of that chunk reuses the result
+ * as long as its area is covered by the already queried box. Results are only valid for the tick they were made in.
+ */
+final class ItemCollectorEntityCache {
+
+    private static final Map<Level, ItemCollectorEntityCache> CACHES = new WeakHashMap<>();
+
+    private final Long2ObjectMap<Entry> entries = new Long2ObjectOpenHashMap<>();
+    private long gameTime = Long.MIN_VALUE;
+
+    private ItemCollectorEntityCache() {
+    }
+
+    /**
+     * @return all item entities intersecting the queried box of the chunk containing {@code area}.
+     * The list may contain entities outside of {@code area}, callers have to check the bounds themselves.
+     */
+    static List<ItemEntity> getItemsAround(Level level, AABB area) {
+        ItemCollectorEntityCache cache = CACHES.computeIfAbsent(level, k -> new ItemCollectorEntityCache());
+        long time = level.getGameTime();
+        if (cache.gameTime != time) {
+            cache.entries.clear();
+            cache.gameTime = time;
+        }
+        Vec3 center = area.getCenter();
+        long chunkKey = ChunkPos.asLong(SectionPos.blockToSectionCoord(center.x), SectionPos.blockToSectionCoord(center.z));
+        Entry entry = cache.entries.get(chunkKey);
+        if (entry == null) {
+            entry = new Entry(area, level.getEntitiesOfClass(ItemEntity.class, area));
+            cache.entries.put(chunkKey, entry);
+        } else if (!contains(entry.queriedArea, area)) {
+            AABB union = entry.queriedArea.minmax(area);
+            entry.queriedArea = union;
+            entry.items = level.getEntitiesOfClass(ItemEntity.class, union);
+        }
+        return entry.items;
+    }
+
+    private static boolean contains(AABB outer, AABB inner) {
+        return outer.minX <= inner.minX && outer.minY <= inner.minY && outer.minZ <= inner.minZ &&
+                outer.maxX >= inner.maxX && outer.maxY >= inner.maxY && outer.maxZ >= inner.maxZ;
+    }
+
+    private static final class Entry {
+
+        private AABB queriedArea;
+        private List<ItemEntity> items;
+
+        private Entry(AABB queriedArea, List<ItemEntity> items) {
+            this.queriedArea = queriedArea;
+            this.items = items;
+        }
+    }
+}
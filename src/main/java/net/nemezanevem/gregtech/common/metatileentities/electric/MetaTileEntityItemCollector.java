@@ -3,6 +3,8 @@ package net.nemezanevem.gregtech.common.metatileentities.electric;
 import codechicken.lib.render.CCRenderState;
 import codechicken.lib.render.pipeline.IVertexOperation;
 import codechicken.lib.vec.Matrix4;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -12,6 +14,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
@@ -44,6 +47,8 @@ public class MetaTileEntityItemCollector extends TieredMetaTileEntity {
     private static final int[] INVENTORY_SIZES = {4, 9, 16, 25, 25};
     private static final double MOTION_MULTIPLIER = 0.04;
     private static final int BASE_EU_CONSUMPTION = 6;
+    private static final int MAX_IDLE_POLL_INTERVAL = 20;
+    private static final int MAX_FILTER_CACHE_SIZE = 256;
 
     private final int maxItemSuckingRange;
     private int itemSuckingRange;
@@ -51,12 +56,15 @@ public class MetaTileEntityItemCollector extends TieredMetaTileEntity {
     private BlockPos areaCenterPos;
     private boolean isWorking;
     private final ItemFilterContainer itemFilter;
+    private final Reference2BooleanMap<Item> filterResultCache = new Reference2BooleanOpenHashMap<>();
+    private int pollInterval = 1;
+    private long nextPollTime;
 
     public MetaTileEntityItemCollector(ResourceLocation metaTileEntityId, int tier, int maxItemSuckingRange) {
         super(metaTileEntityId, tier);
         this.maxItemSuckingRange = maxItemSuckingRange;
         this.itemSuckingRange = maxItemSuckingRange;
-        this.itemFilter = new ItemFilterContainer(this::markDirty);
+        this.itemFilter = new ItemFilterContainer(this::onFilterChanged);
         initializeInventory();
     }
 
@@ -74,6 +82,11 @@ public class MetaTileEntityItemCollector extends TieredMetaTileEntity {
         Textures.PIPE_OUT_OVERLAY.renderSided(getFrontFacing(), renderState, translation, pipeline);
     }
 
+    private void onFilterChanged() {
+        this.filterResultCache.clear();
+        markDirty();
+    }
+
     protected int getEnergyConsumedPerTick() {
         return BASE_EU_CONSUMPTION * (1 << (getTier() - 1));
     }
@@ -122,7 +135,16 @@ public class MetaTileEntityItemCollector extends TieredMetaTileEntity {
                 this.areaCenterPos = selfPos.above();
                 this.areaBoundingBox = new AABB(areaCenterPos).inflate(itemSuckingRange, 1.0, itemSuckingRange);
             }
-            moveItemsInEffectRange();
+            long offsetTimer = getOffsetTimer();
+            if (offsetTimer >= nextPollTime) {
+                boolean foundItems = moveItemsInEffectRange();
+                // back off while nothing is lying around, items dropped into the area are picked up a bit later
+                this.pollInterval = foundItems ? 1 : Math.min(pollInterval * 2, MAX_IDLE_POLL_INTERVAL);
+                this.nextPollTime = offsetTimer + pollInterval;
+            }
+            if (offsetTimer % 5 == 0) {
+                pushItemsIntoNearbyHandlers(getFrontFacing());
+            }
         }
 
         if (isWorkingNow != isWorking) {
@@ -131,18 +153,24 @@ public class MetaTileEntityItemCollector extends TieredMetaTileEntity {
         }
     }
 
-    protected void moveItemsInEffectRange() {
-        List<ItemEntity> itemsInRange = getWorld().getEntitiesOfClass(ItemEntity.class, areaBoundingBox);
-        for (ItemEntity entityItem : itemsInRange) {
-            if (entityItem.isRemoved()) continue;
-            double distanceX = (areaCenterPos.getX() + 0.5) - entityItem.position().x;
-            double distanceZ = (areaCenterPos.getZ() + 0.5) - entityItem.position().z;
-            double distance = Math.sqrt(distanceX * distanceX + distanceZ * distanceZ);
-            if (!itemFilter.testItemStack(entityItem.getItem())) {
+    /**
+     * @return true if any matching item was found in the effect range
+     */
+    protected boolean moveItemsInEffectRange() {
+        List<ItemEntity> itemsAround = ItemCollectorEntityCache.getItemsAround(getWorld(), areaBoundingBox);
+        boolean foundItems = false;
+        for (ItemEntity entityItem : itemsAround) {
+            if (entityItem.isRemoved() || !entityItem.getBoundingBox().intersects(areaBoundingBox)) continue;
+            if (!testItemStack(entityItem.getItem())) {
                 continue;
             }
-            if (distance >= 0.7) {
+            foundItems = true;
+            double distanceX = (areaCenterPos.getX() + 0.5) - entityItem.position().x;
+            double distanceZ = (areaCenterPos.getZ() + 0.5) - entityItem.position().z;
+            double distanceSq = distanceX * distanceX + distanceZ * distanceZ;
+            if (distanceSq >= 0.49) {
                 if (!entityItem.isPickable()) {
+                    double distance = Math.sqrt(distanceSq);
                     double directionX = distanceX / distance;
                     double directionZ = distanceZ / distance;
                     entityItem.setDeltaMovement(directionX * MOTION_MULTIPLIER * getTier(), entityItem.getDeltaMovement().y, directionZ * MOTION_MULTIPLIER * getTier());
@@ -158,9 +186,24 @@ public class MetaTileEntityItemCollector extends TieredMetaTileEntity {
                 }
             }
         }
-        if (getOffsetTimer() % 5 == 0) {
-            pushItemsIntoNearbyHandlers(getFrontFacing());
+        return foundItems;
+    }
+
+    private boolean testItemStack(ItemStack itemStack) {
+        // stacks with NBT may match differently per tag, so only plain items are cached
+        if (itemStack.hasTag()) {
+            return itemFilter.testItemStack(itemStack);
+        }
+        Item item = itemStack.getItem();
+        if (filterResultCache.containsKey(item)) {
+            return filterResultCache.getBoolean(item);
+        }
+        boolean result = itemFilter.testItemStack(itemStack);
+        if (filterResultCache.size() >= MAX_FILTER_CACHE_SIZE) {
+            filterResultCache.clear();
         }
+        filterResultCache.put(item, result);
+        return result;
     }
 
     @Override
@@ -212,6 +255,7 @@ public class MetaTileEntityItemCollector extends TieredMetaTileEntity {
     protected void setItemSuckingRange(int itemSuckingRange) {
         this.itemSuckingRange = itemSuckingRange;
         this.areaBoundingBox = null;
+        this.nextPollTime = 0;
         markDirty();
     }
 
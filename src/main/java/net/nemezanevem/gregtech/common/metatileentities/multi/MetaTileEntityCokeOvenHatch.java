@@ -74,6 +74,7 @@ public class MetaTileEntityCokeOvenHatch extends MetaTileEntityMultiblockPart {
         super.addToMultiBlock(controllerBase);
         this.fluidInventory = new FluidHandlerProxy(new FluidTankList(false), controllerBase.getExportFluids());
         this.itemInventory = new ItemHandlerProxy(controllerBase.getImportItems(), controllerBase.getExportItems());
+        invalidateCapabilities();
     }
 
     @Override
@@ -81,6 +82,7 @@ public class MetaTileEntityCokeOvenHatch extends MetaTileEntityMultiblockPart {
         super.removeFromMultiBlock(controllerBase);
         this.fluidInventory = new FluidTankList(false);
         this.itemInventory = new ItemStackHandler(0);
+        invalidateCapabilities();
     }
 
     @Override
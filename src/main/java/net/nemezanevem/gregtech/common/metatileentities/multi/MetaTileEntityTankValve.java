@@ -101,6 +101,7 @@ public class MetaTileEntityTankValve extends MetaTileEntityMultiblockPart implem
         } else {
             this.fluidInventory = new FluidHandlerProxy(new FluidTankList(false, controllerBase.getImportFluids()), controllerBase.getImportFluids());
         }
+        invalidateCapabilities();
     }
 
     private void reinitializeFluidInventory(Direction facing) {
@@ -110,12 +111,14 @@ public class MetaTileEntityTankValve extends MetaTileEntityMultiblockPart implem
         } else {
             proxy.reinitializeHandler(proxy.output, proxy.output);
         }
+        invalidateCapabilities();
     }
 
     @Override
     public void removeFromMultiBlock(MultiblockControllerBase controllerBase) {
         super.removeFromMultiBlock(controllerBase);
         this.fluidInventory = new FluidHandlerProxy(new FluidTankList(false), new FluidTankList(false));
+        invalidateCapabilities();
     }
 
     @Override
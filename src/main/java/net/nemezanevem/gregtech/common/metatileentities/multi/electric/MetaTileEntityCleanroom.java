@@ -4,6 +4,8 @@ import codechicken.lib.render.CCRenderState;
 import codechicken.lib.render.pipeline.IVertexOperation;
 import codechicken.lib.vec.Matrix4;
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.NonNullList;
@@ -15,6 +17,7 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.item.CreativeModeTab;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.DoorBlock;
@@ -22,6 +25,10 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.nemezanevem.gregtech.GregTech;
 import net.nemezanevem.gregtech.api.GTValues;
 import net.nemezanevem.gregtech.api.blockentity.IDataInfoProvider;
 import net.nemezanevem.gregtech.api.blockentity.MetaTileEntity;
@@ -67,6 +74,12 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase implement
     private int fDist = 0;
     private int hDist = 0;
 
+    /** corners of the outer shell of the formed structure, null if not formed */
+    private BlockPos shellMin;
+    private BlockPos shellMax;
+    /** positions inside the shell changed since the last structure check, recorded by {@link ShellChangeListener} */
+    private final LongSet changedPositions = new LongOpenHashSet();
+
     private CleanroomType cleanroomType = null;
     private int cleanAmount;
 
@@ -111,6 +124,26 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase implement
         // taller cleanrooms take longer than wider ones
         // minimum of 100 is a 5x5x5 cleanroom: 125-25=100 ticks
         this.cleanroomLogic.setMaxProgress(Math.max(100, ((lDist + rDist + 1) * (bDist + fDist + 1) * hDist) - ((lDist + rDist + 1) * (bDist + fDist + 1))));
+        updateShellBounds();
+        if (!getWorld().isClientSide) {
+            ShellChangeListener.register(this);
+        }
+    }
+
+    private void updateShellBounds() {
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (long pos : structurePattern.cache.keySet()) {
+            int x = BlockPos.getX(pos), y = BlockPos.getY(pos), z = BlockPos.getZ(pos);
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            minZ = Math.min(minZ, z);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            maxZ = Math.max(maxZ, z);
+        }
+        this.shellMin = new BlockPos(minX, minY, minZ);
+        this.shellMax = new BlockPos(maxX, maxY, maxZ);
     }
 
     @Override
@@ -121,6 +154,10 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase implement
         this.cleanAmount = MIN_CLEAN_AMOUNT;
         cleanroomReceivers.forEach(receiver -> receiver.setCleanroom(null));
         cleanroomReceivers.clear();
+        this.shellMin = null;
+        this.shellMax = null;
+        this.changedPositions.clear();
+        ShellChangeListener.unregister(this);
     }
 
     @Override
@@ -138,10 +175,63 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase implement
     public void checkStructurePattern() {
         if (!this.isStructureFormed()) {
             reinitializeStructurePattern();
+        } else if (revalidateChangedPositions()) {
+            return;
         }
         super.checkStructurePattern();
     }
 
+    /**
+     * Compares the positions changed since the last check with the cached structure and accepts changes which can not
+     * break a formed cleanroom, like toggled doors or replaced blocks inside the room, without rescanning the structure.
+     *
+     * @return if the structure is still valid, false if a full rescan is required
+     */
+    private boolean revalidateChangedPositions() {
+        if (structurePattern == null || shellMin == null) return false;
+        if (changedPositions.isEmpty()) return true;
+        Level world = getWorld();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        try {
+            for (long changed : changedPositions) {
+                BlockInfo cached = structurePattern.cache.get(changed);
+                if (cached == null) continue;
+                pos.set(changed);
+                BlockState blockState = world.getBlockState(pos);
+                BlockEntity cachedTileEntity = cached.getBlockEntity();
+                BlockEntity tileEntity = world.getBlockEntity(pos);
+                if (blockState == cached.getBlockState() && (cachedTileEntity == null || tileEntity == cachedTileEntity)) {
+                    continue;
+                }
+                if (isShellPosition(pos)) {
+                    // doors may open and close, any other change of the shell can change the dimensions
+                    Block block = blockState.getBlock();
+                    if (!(block instanceof DoorBlock) || block != cached.getBlockState().getBlock()) return false;
+                } else if (cachedTileEntity instanceof MetaTileEntityHolder || tileEntity instanceof MetaTileEntityHolder) {
+                    // machines inside have to be checked against the banned machines and registered as receivers
+                    return false;
+                }
+                structurePattern.cache.put(changed, new BlockInfo(blockState, tileEntity, cached.getInfo()));
+            }
+            return true;
+        } finally {
+            changedPositions.clear();
+        }
+    }
+
+    private boolean isInShell(BlockPos pos) {
+        return shellMin != null &&
+                pos.getX() >= shellMin.getX() && pos.getX() <= shellMax.getX() &&
+                pos.getY() >= shellMin.getY() && pos.getY() <= shellMax.getY() &&
+                pos.getZ() >= shellMin.getZ() && pos.getZ() <= shellMax.getZ();
+    }
+
+    private boolean isShellPosition(BlockPos pos) {
+        return pos.getX() == shellMin.getX() || pos.getX() == shellMax.getX() ||
+                pos.getY() == shellMin.getY() || pos.getY() == shellMax.getY() ||
+                pos.getZ() == shellMin.getZ() || pos.getZ() == shellMax.getZ();
+    }
+
     /**
      * Scans for blocks around the controller to update the dimensions
      */
@@ -682,4 +772,36 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase implement
     protected boolean shouldShowVoidingModeButton() {
         return false;
     }
+
+    /**
+     * Records block changes inside the shells of formed cleanrooms, so a structure check only has to look at those
+     */
+    @Mod.EventBusSubscriber(modid = GregTech.MODID)
+    public static class ShellChangeListener {
+
+        private static final Map<LevelAccessor, Set<MetaTileEntityCleanroom>> formedCleanrooms = new WeakHashMap<>();
+
+        private static void register(MetaTileEntityCleanroom cleanroom) {
+            formedCleanrooms.computeIfAbsent(cleanroom.getWorld(), world -> Collections.newSetFromMap(new WeakHashMap<>())).add(cleanroom);
+        }
+
+        private static void unregister(MetaTileEntityCleanroom cleanroom) {
+            Set<MetaTileEntityCleanroom> cleanrooms = formedCleanrooms.get(cleanroom.getWorld());
+            if (cleanrooms != null && cleanrooms.remove(cleanroom) && cleanrooms.isEmpty()) {
+                formedCleanrooms.remove(cleanroom.getWorld());
+            }
+        }
+
+        @SubscribeEvent
+        public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+            Set<MetaTileEntityCleanroom> cleanrooms = formedCleanrooms.get(event.getLevel());
+            if (cleanrooms == null) return;
+            BlockPos pos = event.getPos();
+            for (MetaTileEntityCleanroom cleanroom : cleanrooms) {
+                if (cleanroom.isInShell(pos)) {
+                    cleanroom.changedPositions.add(pos.asLong());
+                }
+            }
+        }
+    }
 }
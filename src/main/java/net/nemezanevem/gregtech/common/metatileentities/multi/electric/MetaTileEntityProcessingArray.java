@@ -26,6 +26,7 @@ import gregtech.common.blocks.MetaBlocks;
 import gregtech.core.sound.GTSoundEvents;
 import net.minecraft.block.state.BlockState;
 import net.minecraft.client.resources.I18n;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
@@ -39,13 +40,18 @@ import net.minecraftforge.items.IItemHandlerModifiable;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static gregtech.api.GTValues.ULV;
 import static gregtech.api.recipes.logic.OverclockingLogic.standardOverclockingLogic;
 
 public class MetaTileEntityProcessingArray extends RecipeTypeMultiblockController implements IMachineHatchMultiblock {
 
+    private static final Map<Item, MachineContext> machineContexts = new IdentityHashMap<>();
+    private static String[] contextBlacklist;
+
     private final int tier;
     private boolean machineChanged;
 
@@ -158,22 +164,102 @@ public class MetaTileEntityProcessingArray extends RecipeTypeMultiblockControlle
 
     @Override
     public int getItemOutputLimit() {
-        ItemStack machineStack = ((ProcessingArrayWorkable) this.recipeMapWorkable).getMachineStack();
-        MetaTileEntity mte = Util.getMetaTileEntity(machineStack);
-        return mte == null ? 0 : mte.getItemOutputLimit();
+        MachineContext context = ((ProcessingArrayWorkable) this.recipeMapWorkable).getMachineContext();
+        return context == null ? 0 : context.getItemOutputLimit();
+    }
+
+    @Override
+    public int getFluidOutputLimit() {
+        MachineContext context = ((ProcessingArrayWorkable) this.recipeMapWorkable).getMachineContext();
+        return context == null ? 0 : context.getFluidOutputLimit();
+    }
+
+    /**
+     * @return the context of the machine item, or null if the stack holds no machine
+     */
+    @Nullable
+    public static MachineContext getMachineContext(ItemStack machineStack, String[] blacklist) {
+        if (machineStack.isEmpty()) return null;
+        synchronized (machineContexts) {
+            // the contexts know whether they are blacklisted, so they are dropped once the blacklist is replaced
+            if (contextBlacklist != blacklist) {
+                machineContexts.clear();
+                contextBlacklist = blacklist;
+            }
+            Item item = machineStack.getItem();
+            MachineContext context = machineContexts.get(item);
+            if (context == null && !machineContexts.containsKey(item)) {
+                context = MachineContext.create(machineStack, blacklist);
+                machineContexts.put(item, context);
+            }
+            return context;
+        }
+    }
+
+    /**
+     * Everything the Processing Array needs to know about a machine it holds, resolved once per machine item
+     */
+    public static final class MachineContext {
+
+        private final GTRecipeType<?> recipeType;
+        //The Voltage Tier of the machine, from GTValues.V
+        private final int tier;
+        private final long voltage;
+        private final int itemOutputLimit;
+        private final int fluidOutputLimit;
+        private final boolean blacklisted;
+
+        private MachineContext(GTRecipeType<?> recipeType, int tier, int itemOutputLimit, int fluidOutputLimit, boolean blacklisted) {
+            this.recipeType = recipeType;
+            this.tier = tier;
+            this.voltage = GTValues.V[tier];
+            this.itemOutputLimit = itemOutputLimit;
+            this.fluidOutputLimit = fluidOutputLimit;
+            this.blacklisted = blacklisted;
+        }
+
+        @Nullable
+        private static MachineContext create(ItemStack machineStack, String[] blacklist) {
+            MetaTileEntity mte = Util.getMetaTileEntity(machineStack);
+            if (mte == null || mte.getRecipeType() == null) return null;
+            GTRecipeType<?> recipeType = mte.getRecipeType();
+            int tier = mte instanceof ITieredMetaTileEntity ? ((ITieredMetaTileEntity) mte).getTier() : 0;
+            boolean blacklisted = Util.findMachineInBlacklist(recipeType.getUnlocalizedName(), blacklist) ||
+                    !Util.isMachineValidForMachineHatch(machineStack, blacklist);
+            return new MachineContext(recipeType, tier, mte.getItemOutputLimit(), mte.getFluidOutputLimit(), blacklisted);
+        }
+
+        public GTRecipeType<?> getRecipeType() {
+            return recipeType;
+        }
+
+        public int getTier() {
+            return tier;
+        }
+
+        public long getVoltage() {
+            return voltage;
+        }
+
+        public int getItemOutputLimit() {
+            return itemOutputLimit;
+        }
+
+        public int getFluidOutputLimit() {
+            return fluidOutputLimit;
+        }
 
+        public boolean isBlacklisted() {
+            return blacklisted;
+        }
     }
 
     @SuppressWarnings("InnerClassMayBeStatic")
     protected class ProcessingArrayWorkable extends MultiblockRecipeLogic {
 
         ItemStack currentMachineStack = ItemStack.EMPTY;
-        //The Voltage Tier of the machines the PA is operating upon, from GTValues.V
-        private int machineTier;
-        //The maximum Voltage of the machines the PA is operating upon
-        private long machineVoltage;
-        //The Recipe Map of the machines the PA is operating upon
-        private GTRecipeType<?> activeRecipeType;
+        //The context of the machines the PA is operating upon, null if there are none
+        private MachineContext machineContext;
 
         public ProcessingArrayWorkable(RecipeTypeMultiblockController tileEntity) {
             super(tileEntity);
@@ -185,9 +271,7 @@ public class MetaTileEntityProcessingArray extends RecipeTypeMultiblockControlle
             // Reset locally cached variables upon invalidation
             currentMachineStack = ItemStack.EMPTY;
             machineChanged = true;
-            machineTier = 0;
-            machineVoltage = 0L;
-            activeRecipeType = null;
+            machineContext = null;
         }
 
         /**
@@ -199,11 +283,7 @@ public class MetaTileEntityProcessingArray extends RecipeTypeMultiblockControlle
          */
         @Override
         public boolean isRecipeTypeValid(@Nonnull GTRecipeType<?> recipeMap) {
-            if (Util.findMachineInBlacklist(recipeMap.getUnlocalizedName(), ((IMachineHatchMultiblock) metaTileEntity).getBlacklist())) {
-                return false;
-            }
-
-            return Util.isMachineValidForMachineHatch(currentMachineStack, ((IMachineHatchMultiblock) metaTileEntity).getBlacklist());
+            return machineContext != null && machineContext.getRecipeType() == recipeMap && !machineContext.isBlacklisted();
         }
 
         @Override
@@ -222,13 +302,13 @@ public class MetaTileEntityProcessingArray extends RecipeTypeMultiblockControlle
                     invalidInputsForRecipes = false;
                 }
             }
-            return (!currentMachineStack.isEmpty() && this.activeRecipeType != null);
+            return (!currentMachineStack.isEmpty() && this.machineContext != null);
         }
 
         @Nullable
         @Override
         public GTRecipeType<?> getRecipeType() {
-            return activeRecipeType;
+            return machineContext == null ? null : machineContext.getRecipeType();
         }
 
         public void findMachineStack() {
@@ -237,26 +317,22 @@ public class MetaTileEntityProcessingArray extends RecipeTypeMultiblockControlle
             //The Processing Array is limited to 1 Machine Interface per multiblock, and only has 1 slot
             ItemStack machine = controller.getAbilities(MultiblockAbility.MACHINE_HATCH).get(0).getStackInSlot(0);
 
+            this.machineContext = getMachineContext(machine, ((IMachineHatchMultiblock) metaTileEntity).getBlacklist());
+            this.currentMachineStack = machine;
+        }
 
-            MetaTileEntity mte = Util.getMetaTileEntity(machine);
-
-            if (mte == null)
-                this.activeRecipeType = null;
-            else
-                this.activeRecipeType = mte.getRecipeType();
-
-
-            //Find the voltage tier of the machine.
-            this.machineTier = mte instanceof ITieredMetaTileEntity ? ((ITieredMetaTileEntity) mte).getTier() : 0;
-
-            this.machineVoltage = GTValues.V[this.machineTier];
+        @Nullable
+        public MachineContext getMachineContext() {
+            return machineContext;
+        }
 
-            this.currentMachineStack = machine;
+        private long getMachineVoltage() {
+            return machineContext == null ? 0L : machineContext.getVoltage();
         }
 
         @Override
         protected int getOverclockForTier(long voltage) {
-            return super.getOverclockForTier(Math.min(machineVoltage, getMaximumOverclockVoltage()));
+            return super.getOverclockForTier(Math.min(getMachineVoltage(), getMaximumOverclockVoltage()));
         }
 
         @Override
@@ -266,7 +342,31 @@ public class MetaTileEntityProcessingArray extends RecipeTypeMultiblockControlle
 
         @Override
         protected Recipe findRecipe(long maxVoltage, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
-            return super.findRecipe(Math.min(super.getMaxVoltage(), this.machineVoltage), inputs, fluidInputs);
+            return super.findRecipe(Math.min(super.getMaxVoltage(), getMachineVoltage()), inputs, fluidInputs);
+        }
+
+        /**
+         * Runs as many copies of the recipe at once as machines are held, each limited to the voltage of the held machines
+         */
+        @Override
+        protected boolean prepareRecipe(Recipe recipe) {
+            recipe = recipe.trimRecipeOutputs(recipe, getRecipeType(), metaTileEntity.getItemOutputLimit(), metaTileEntity.getFluidOutputLimit());
+
+            recipe = findParallelRecipe(
+                    this,
+                    recipe,
+                    getInputInventory(),
+                    getInputTank(),
+                    getOutputInventory(),
+                    getOutputTank(),
+                    getMaxParallelVoltage(),
+                    getParallelLimit());
+
+            if (recipe != null && setupAndConsumeRecipeInputs(recipe, getInputInventory())) {
+                setupRecipe(recipe);
+                return true;
+            }
+            return false;
         }
 
         @Override
@@ -281,7 +381,8 @@ public class MetaTileEntityProcessingArray extends RecipeTypeMultiblockControlle
             Tuple<Integer, Double> maintenanceValues = getMaintenanceValues();
 
             int originalTier = Math.max(0, Util.getTierByVoltage(recipeEUt / Math.max(1, this.parallelRecipesPerformed)));
-            int numOverclocks = Math.min(this.machineTier, Util.getTierByVoltage(getMaxVoltage())) - originalTier;
+            int machineTier = machineContext == null ? 0 : machineContext.getTier();
+            int numOverclocks = Math.min(machineTier, Util.getTierByVoltage(getMaxVoltage())) - originalTier;
 
             if (originalTier == ULV) numOverclocks--; // no ULV overclocking
 
@@ -297,9 +398,5 @@ public class MetaTileEntityProcessingArray extends RecipeTypeMultiblockControlle
                     getOverclockingVoltageMultiplier()
             );
         }
-
-        private ItemStack getMachineStack() {
-            return currentMachineStack;
-        }
     }
 }
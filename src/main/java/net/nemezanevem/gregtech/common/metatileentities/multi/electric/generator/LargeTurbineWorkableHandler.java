@@ -1,6 +1,7 @@
 package net.nemezanevem.gregtech.common.metatileentities.multi.electric.generator;
 
 import net.minecraft.util.Mth;
+import net.minecraft.world.level.material.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.fluids.capability.IFluidHandler;
@@ -9,11 +10,14 @@ import net.nemezanevem.gregtech.api.GTValues;
 import net.nemezanevem.gregtech.api.blockentity.multiblock.FuelMultiblockController;
 import net.nemezanevem.gregtech.api.blockentity.multiblock.GtMultiblockAbilities;
 import net.nemezanevem.gregtech.api.blockentity.multiblock.RecipeTypeMultiblockController;
+import net.nemezanevem.gregtech.api.capability.IMultipleTankHandler;
 import net.nemezanevem.gregtech.api.capability.IRotorHolder;
 import net.nemezanevem.gregtech.api.capability.impl.MultiblockFuelRecipeLogic;
+import net.nemezanevem.gregtech.api.recipe.FuelIndex;
 import net.nemezanevem.gregtech.api.recipe.GTRecipe;
 import net.nemezanevem.gregtech.common.datagen.recipe.builder.GTRecipeBuilder;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 public class LargeTurbineWorkableHandler extends MultiblockFuelRecipeLogic {
@@ -21,6 +25,8 @@ public class LargeTurbineWorkableHandler extends MultiblockFuelRecipeLogic {
     private final int BASE_EU_OUTPUT;
 
     private int excessVoltage;
+    // fuel found in the input tanks last time, checked first on the next lookup
+    private Fluid lastFuel;
 
     public LargeTurbineWorkableHandler(RecipeTypeMultiblockController metaTileEntity, int tier) {
         super(metaTileEntity);
@@ -40,14 +46,34 @@ public class LargeTurbineWorkableHandler extends MultiblockFuelRecipeLogic {
     }
 
     public FluidStack getInputFluidStack() {
-        // Previous Recipe is always null on first world load, so try to acquire a new recipe
+        // Previous Recipe is always null on first world load, so look up the fuel in the tanks
         if (previousRecipe == null) {
-            GTRecipe recipe = findRecipe(Integer.MAX_VALUE, getInputInventory(), getInputTank());
-
-            return recipe == null ? null : getInputTank().drain(new FluidStack(recipe.getFluidInputs().get(0).getFluids()[0].getFluid(), Integer.MAX_VALUE), IFluidHandler.FluidAction.EXECUTE);
+            Fluid fuel = findFuelInTanks();
+            return fuel == null ? null : getInputTank().drain(new FluidStack(fuel, Integer.MAX_VALUE), IFluidHandler.FluidAction.SIMULATE);
         }
         FluidStack fuelStack = previousRecipe.getFluidInputs().get(0).getFluids()[0];
-        return getInputTank().drain(new FluidStack(fuelStack.getFluid(), Integer.MAX_VALUE), IFluidHandler.FluidAction.EXECUTE);
+        return getInputTank().drain(new FluidStack(fuelStack.getFluid(), Integer.MAX_VALUE), IFluidHandler.FluidAction.SIMULATE);
+    }
+
+    @Nullable
+    private Fluid findFuelInTanks() {
+        IMultipleTankHandler tanks = getInputTank();
+        // the fuel cannot have changed while a tank still holds it
+        if (lastFuel != null) {
+            for (IFluidTank tank : tanks) {
+                if (tank.getFluid().getFluid() == lastFuel) {
+                    return lastFuel;
+                }
+            }
+        }
+        FuelIndex fuelIndex = FuelIndex.get(getRecipeType());
+        for (IFluidTank tank : tanks) {
+            FluidStack fluid = tank.getFluid();
+            if (fuelIndex.getFuelRecipe(fluid) != null) {
+                return lastFuel = fluid.getFluid();
+            }
+        }
+        return lastFuel = null;
     }
 
     @Override
@@ -91,7 +117,7 @@ public class LargeTurbineWorkableHandler extends MultiblockFuelRecipeLogic {
 
             // Null check fluid here, since it can return null on first join into world or first form
             FluidStack inputFluid = getInputFluidStack();
-            if(inputFluid == null || getInputFluidStack().getAmount() < recipeFluidStack.getAmount() * parallel) {
+            if(inputFluid == null || inputFluid.getAmount() < recipeFluidStack.getAmount() * parallel) {
                 return false;
             }
 
@@ -116,6 +142,7 @@ public class LargeTurbineWorkableHandler extends MultiblockFuelRecipeLogic {
     @Override
     public void invalidate() {
         excessVoltage = 0;
+        lastFuel = null;
         super.invalidate();
     }
 
@@ -71,11 +71,17 @@ public class MetaTileEntityCrate extends MetaTileEntity {
             @Override
             protected void onContentsChanged(int slot) {
                 super.onContentsChanged(slot);
+                markDirty();
             }
         };
         this.itemInventory = inventory;
     }
 
+    @Override
+    protected boolean requiresOwnTicking() {
+        return false;
+    }
+
     @Override
     public int getActualComparatorValue() {
         return ItemHandlerHelper.calcRedstoneFromInventory(inventory);
@@ -109,7 +109,13 @@ public class MetaTileEntityDrum extends MetaTileEntity {
     @Override
     protected void initializeInventory() {
         super.initializeInventory();
-        this.fluidTank = new FilteredFluidHandler(tankSize)
+        this.fluidTank = new FilteredFluidHandler(tankSize) {
+                    @Override
+                    protected void onContentsChanged() {
+                        super.onContentsChanged();
+                        markDirty();
+                    }
+                }
                 .setFillPredicate(stack -> {
                     if (stack == null || stack.getFluid() == null) return false;
 
@@ -243,9 +249,15 @@ public class MetaTileEntityDrum extends MetaTileEntity {
         return super.onScrewdriverClick(playerIn, hand, wrenchSide, hitResult);
     }
 
+    @Override
+    protected boolean requiresOwnTicking() {
+        return isAutoOutput;
+    }
+
     private void toggleOutput() {
         isAutoOutput = !isAutoOutput;
         if (!getWorld().isClientSide) {
+            updateSupportsTicking();
             notifyBlockUpdate();
             writeCustomData(UPDATE_AUTO_OUTPUT, buf -> buf.writeBoolean(isAutoOutput));
             markDirty();
@@ -0,0 +1,55 @@
+package net.nemezanevem.gregtech.common.network.packets;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+import net.nemezanevem.gregtech.api.gui.impl.ModularUIGui;
+import net.nemezanevem.gregtech.common.network.NetworkUtils;
+
+import java.util.function.Supplier;
+
+/**
+ * All widget updates of one container collected during a single server tick.
+ * The payload is a sequence of (widget id, length, update id + update data) entries.
+ */
+public class PacketUIWidgetUpdateBatch {
+
+    public int windowId;
+    public FriendlyByteBuf updateData;
+
+    public PacketUIWidgetUpdateBatch(int windowId, FriendlyByteBuf updateData) {
+        this.windowId = windowId;
+        this.updateData = updateData;
+    }
+
+    public static void encode(PacketUIWidgetUpdateBatch packet, FriendlyByteBuf buf) {
+        buf.writeVarInt(packet.windowId);
+        NetworkUtils.writeFriendlyByteBuf(buf, packet.updateData);
+    }
+
+    public static PacketUIWidgetUpdateBatch decode(FriendlyByteBuf buf) {
+        var windowId = buf.readVarInt();
+        var updateData = NetworkUtils.readFriendlyByteBuf(buf);
+        return new PacketUIWidgetUpdateBatch(windowId, updateData);
+    }
+
+    public static void handle(PacketUIWidgetUpdateBatch packet, Supplier<NetworkEvent.Context> handler) {
+        handler.get().enqueueWork(() -> {
+            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+                Screen currentScreen = Minecraft.getInstance().screen;
+                if (currentScreen instanceof ModularUIGui ui) {
+                    FriendlyByteBuf buffer = packet.updateData;
+                    while (buffer.isReadable()) {
+                        int widgetId = buffer.readVarInt();
+                        int length = buffer.readVarInt();
+                        ui.handleWidgetUpdate(packet.windowId, widgetId, new FriendlyByteBuf(buffer.readSlice(length)));
+                    }
+                }
+            });
+        });
+        handler.get().setPacketHandled(true);
+    }
+}
@@ -3,9 +3,9 @@ package net.nemezanevem.gregtech.common.pipelike.cable.net;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.nemezanevem.gregtech.api.capability.GregtechCapabilities;
 import net.nemezanevem.gregtech.api.capability.IEnergyContainer;
+import net.nemezanevem.gregtech.api.pipenet.EndpointCapabilityCache;
 import net.nemezanevem.gregtech.common.pipelike.cable.tile.TileEntityCable;
 
 public class RoutePath {
@@ -48,10 +48,6 @@ public class RoutePath {
     }
 
     public IEnergyContainer getHandler(Level world) {
-        BlockEntity tile = world.getBlockEntity(getHandlerPos());
-        if (tile != null) {
-            return tile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, destFacing.getOpposite()).resolve().get();
-        }
-        return null;
+        return EndpointCapabilityCache.get(world).getCapability(getHandlerPos(), destFacing.getOpposite(), GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER);
     }
 }
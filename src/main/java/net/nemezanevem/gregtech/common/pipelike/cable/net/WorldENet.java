@@ -16,7 +16,7 @@ public class WorldENet extends WorldPipeNet<WireProperty, EnergyNet> {
             ServerLevel serverLevel = (ServerLevel) world;
             final String DATA_ID = getDataID(DATA_ID_BASE, serverLevel);
             WorldENet netWorldData = serverLevel.getDataStorage().computeIfAbsent(WorldENet::load, WorldENet::new, DATA_ID);
-            netWorldData.setWorldAndInit(serverLevel);
+            netWorldData.setWorldAndInit(serverLevel, DATA_ID);
             return netWorldData;
         }
         return null;
@@ -15,7 +15,7 @@ public class WorldFluidPipeNet extends WorldPipeNet<FluidPipeProperty, FluidPipe
         if(!level.isClientSide) {
             ServerLevel serverLevel = (ServerLevel) level;
             WorldFluidPipeNet netWorldData = serverLevel.getDataStorage().computeIfAbsent(WorldFluidPipeNet::load, WorldFluidPipeNet::new, DATA_ID);
-            netWorldData.setWorldAndInit(level);
+            netWorldData.setWorldAndInit(level, DATA_ID);
             return netWorldData;
         }
         return null;
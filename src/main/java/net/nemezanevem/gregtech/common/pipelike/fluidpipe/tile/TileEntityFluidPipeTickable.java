@@ -15,6 +15,7 @@ import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.templates.FluidTank;
 import net.nemezanevem.gregtech.api.GTValues;
 import net.nemezanevem.gregtech.api.cover.CoverBehavior;
+import net.nemezanevem.gregtech.api.pipenet.EndpointCapabilityCache;
 import net.nemezanevem.gregtech.api.blockentity.IDataInfoProvider;
 import net.nemezanevem.gregtech.common.pipelike.fluidpipe.net.PipeTankList;
 import org.apache.commons.lang3.tuple.MutableTriple;
@@ -281,11 +282,7 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
     }
 
     private IFluidHandler getFluidHandlerAt(Direction facing, Direction oppositeSide) {
-        BlockEntity tile = world.getBlockEntity(pos.offset(facing));
-        if (tile == null) {
-            return null;
-        }
-        return tile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, oppositeSide);
+        return EndpointCapabilityCache.get(world).getCapability(pos.relative(facing), oppositeSide, ForgeCapabilities.FLUID_HANDLER);
     }
 
     public void receivedFrom(Direction facing) {
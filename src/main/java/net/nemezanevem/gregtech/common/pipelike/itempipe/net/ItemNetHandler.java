@@ -17,6 +17,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemStackHandler;
+import net.nemezanevem.gregtech.api.pipenet.EndpointCapabilityCache;
 
 import javax.annotation.Nonnull;
 import java.util.*;
@@ -345,13 +346,9 @@ public class ItemNetHandler implements IItemHandler {
     }
 
     public CoverBehavior getCoverOnNeighbour(BlockPos pos, Direction handlerFacing) {
-        BlockEntity tile = pipe.getWorld().getBlockEntity(pos.offset(handlerFacing));
-        if (tile != null) {
-            ICoverable coverable = tile.getCapability(GregtechTileCapabilities.CAPABILITY_COVERABLE, handlerFacing.getOpposite());
-            if (coverable == null) return null;
-            return coverable.getCoverAtSide(handlerFacing.getOpposite());
-        }
-        return null;
+        ICoverable coverable = EndpointCapabilityCache.get(pipe.getWorld()).getCapability(pos.relative(handlerFacing), handlerFacing.getOpposite(), GregtechTileCapabilities.CAPABILITY_COVERABLE);
+        if (coverable == null) return null;
+        return coverable.getCoverAtSide(handlerFacing.getOpposite());
     }
 
     public ItemStack insertOverRobotArm(IItemHandler handler, CoverRoboticArm arm, ItemStack stack, boolean simulate, int allowed, boolean ignoreLimit) {
@@ -5,9 +5,9 @@ import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
 import net.minecraftforge.items.IItemHandler;
+import net.nemezanevem.gregtech.api.pipenet.EndpointCapabilityCache;
 import net.nemezanevem.gregtech.api.pipenet.Node;
 import net.nemezanevem.gregtech.api.pipenet.PipeNet;
 import net.nemezanevem.gregtech.api.pipenet.WorldPipeNet;
@@ -116,10 +116,7 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperty> {
         }
 
         public IItemHandler getHandler(Level world) {
-            BlockEntity tile = world.getBlockEntity(getHandlerPos());
-            if (tile != null)
-                return tile.getCapability(ForgeCapabilities.ITEM_HANDLER, faceToHandler.getOpposite()).isPresent() ? tile.getCapability(ForgeCapabilities.ITEM_HANDLER, faceToHandler.getOpposite()).resolve().get() : null;
-            return null;
+            return EndpointCapabilityCache.get(world).getCapability(getHandlerPos(), faceToHandler.getOpposite(), ForgeCapabilities.ITEM_HANDLER);
         }
 
         public FacingPos toFacingPos() {
@@ -14,7 +14,7 @@ public class WorldItemPipeNet extends WorldPipeNet<ItemPipeProperty, ItemPipeNet
         if(!world.isClientSide) {
             ServerLevel serverLevel = (ServerLevel) world;
             WorldItemPipeNet netWorldData = serverLevel.getDataStorage().computeIfAbsent(WorldItemPipeNet::load, WorldItemPipeNet::new, DATA_ID);
-            netWorldData.setWorldAndInit(world);
+            netWorldData.setWorldAndInit(world, DATA_ID);
             return netWorldData;
         }
         return null;
@@ -229,14 +229,8 @@ public class RecipeTypeCategory implements IRecipeCategory<GTRecipeWrapper> {
     }
 
     private static int getPropertyShiftAmount(@Nonnull GTRecipeType<?> recipeMap) {
-        int maxPropertyCount = 0;
-        if (shouldShiftWidgets(recipeMap)) {
-            for (GTRecipe recipe : recipeMap.getRecipeList()) {
-                if (recipe.getPropertyCount() > maxPropertyCount)
-                    maxPropertyCount = recipe.getPropertyCount();
-            }
-        }
-        return maxPropertyCount * FONT_HEIGHT;
+        if (!shouldShiftWidgets(recipeMap)) return 0;
+        return recipeMap.getMaxPropertyCount() * FONT_HEIGHT;
     }
 
     @Override
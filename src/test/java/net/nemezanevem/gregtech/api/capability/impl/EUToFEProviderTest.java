@@ -0,0 +1,128 @@
+package net.nemezanevem.gregtech.api.capability.impl;
+
+import net.minecraftforge.energy.IEnergyStorage;
+import net.nemezanevem.gregtech.api.capability.FeCompat;
+import net.nemezanevem.gregtech.api.capability.IEnergyContainer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The EU drawn by a {@link EUToFEProvider.GTEnergyWrapper} has to arrive as FE in the wrapped storage, no matter how
+ * the storage limits its input. FE of a packet the storage could not take is kept in the buffer of the provider.
+ */
+public class EUToFEProviderTest {
+
+    private static final long[] VOLTAGES = {8, 32, 128, 512, 2048};
+
+    @Test
+    public void testEnergyConservedOverManyTransfers() {
+        OddStorage storage = new OddStorage(12_345, 997);
+        IEnergyContainer wrapper = createWrapper(storage);
+        int ratio = FeCompat.ratio(false);
+        Random random = new Random(42);
+        long drawnFe = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            long voltage = VOLTAGES[random.nextInt(VOLTAGES.length)];
+            long amperage = 1 + random.nextInt(4);
+            long usedAmperage = wrapper.acceptEnergyFromNetwork(null, voltage, amperage);
+            assertTrue(usedAmperage >= 0 && usedAmperage <= amperage, "used amperage out of range: " + usedAmperage);
+            drawnFe += FeCompat.toFeLong(voltage * usedAmperage, ratio);
+            assertTrue(drawnFe >= storage.received, "more FE received than drawn after transfer " + i);
+
+            // the machine consumes some of its energy every tick
+            storage.stored -= Math.min(storage.stored, random.nextInt(1500));
+        }
+
+        flush(storage, wrapper);
+        assertEquals(drawnFe, storage.received);
+    }
+
+    @Test
+    public void testBufferedRemainderWithPartialPacket() {
+        // 32 EU packets are 128 FE at the default ratio, the storage takes less than a packet each time
+        OddStorage storage = new OddStorage(Integer.MAX_VALUE, 100);
+        IEnergyContainer wrapper = createWrapper(storage);
+        int ratio = FeCompat.ratio(false);
+        long packet = FeCompat.toFeLong(32, ratio);
+
+        // a partial packet, the remainder is buffered
+        assertEquals(1, wrapper.acceptEnergyFromNetwork(null, 32, 1));
+        // the buffered remainder plus part of a new packet
+        assertEquals(1, wrapper.acceptEnergyFromNetwork(null, 32, 1));
+        assertEquals(200, storage.received);
+
+        flush(storage, wrapper);
+        assertEquals(2 * packet, storage.received);
+    }
+
+    private static IEnergyContainer createWrapper(IEnergyStorage storage) {
+        EUToFEProvider provider = new EUToFEProvider(null);
+        return provider.new GTEnergyWrapper(storage);
+    }
+
+    /**
+     * Lets the storage take everything and hands over the buffered FE without drawing a new packet
+     */
+    private static void flush(OddStorage storage, IEnergyContainer wrapper) {
+        storage.stored = 0;
+        storage.maxReceive = Integer.MAX_VALUE;
+        storage.capacity = Integer.MAX_VALUE;
+        assertEquals(0, wrapper.acceptEnergyFromNetwork(null, 32, 0));
+    }
+
+    /**
+     * Storage with a capacity and input limit which are no multiple of any packet size
+     */
+    private static class OddStorage implements IEnergyStorage {
+
+        private int capacity;
+        private int maxReceive;
+        private int stored;
+        private long received;
+
+        private OddStorage(int capacity, int maxReceive) {
+            this.capacity = capacity;
+            this.maxReceive = maxReceive;
+        }
+
+        @Override
+        public int receiveEnergy(int maxReceive, boolean simulate) {
+            int receive = Math.max(0, Math.min(Math.min(this.maxReceive, capacity - stored), maxReceive));
+            if (!simulate) {
+                stored += receive;
+                received += receive;
+            }
+            return receive;
+        }
+
+        @Override
+        public int extractEnergy(int maxExtract, boolean simulate) {
+            return 0;
+        }
+
+        @Override
+        public int getEnergyStored() {
+            return stored;
+        }
+
+        @Override
+        public int getMaxEnergyStored() {
+            return capacity;
+        }
+
+        @Override
+        public boolean canExtract() {
+            return false;
+        }
+
+        @Override
+        public boolean canReceive() {
+            return true;
+        }
+    }
+}